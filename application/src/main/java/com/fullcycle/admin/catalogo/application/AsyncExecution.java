@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+public final class AsyncExecution {
+  private AsyncExecution() {
+  }
+
+  // unlike CompletableFuture.supplyAsync, cancelling or timing out the returned future
+  // interrupts the thread still running the use case
+  public static <T> CompletableFuture<T> supply(
+      final Supplier<T> aCall,
+      final Executor anExecutor
+  ) {
+    final var future = new CompletableFuture<T>();
+    final var task = new FutureTask<Void>(() -> {
+      try {
+        future.complete(aCall.get());
+      } catch (final Throwable t) {
+        future.completeExceptionally(t);
+      }
+    }, null);
+
+    future.whenComplete((result, error) -> {
+      if (error != null) {
+        task.cancel(true);
+      }
+    });
+
+    try {
+      anExecutor.execute(task);
+    } catch (final RuntimeException ex) {
+      future.completeExceptionally(ex);
+    }
+    return future;
+  }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public abstract class AsyncUnitUseCase<IN> {
+
+  public abstract CompletableFuture<Void> execute(IN anIn);
+
+  public CompletableFuture<Void> execute(final IN anIn, final Duration aTimeout) {
+    return execute(anIn).orTimeout(aTimeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public abstract class AsyncUseCase<IN, OUT> {
+
+  public abstract CompletableFuture<OUT> execute(IN anIn);
+
+  public CompletableFuture<OUT> execute(final IN anIn, final Duration aTimeout) {
+    return execute(anIn).orTimeout(aTimeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+}
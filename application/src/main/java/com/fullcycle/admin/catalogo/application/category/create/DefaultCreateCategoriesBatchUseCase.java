@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesBatchUseCase extends CreateCategoriesBatchUseCase {
+  private final CategoryGateway categoryGateway;
+
+  public DefaultCreateCategoriesBatchUseCase(final CategoryGateway categoryGateway) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+  }
+
+  @Override
+  public List<Either<Notification, CreateCategoryOutput>> execute(
+      final List<CreateCategoryCommand> aCommands
+  ) {
+    final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(aCommands.size());
+    final var validCategories = new ArrayList<Category>(aCommands.size());
+
+    for (final var aCommand : aCommands) {
+      final var notification = Notification.create();
+
+      final var aCategory =
+          Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+      aCategory.validate(notification);
+
+      if (notification.hasErrors()) {
+        results.add(API.Left(notification));
+      } else {
+        validCategories.add(aCategory);
+        results.add(null);
+      }
+    }
+
+    return fill(results, createAll(validCategories));
+  }
+
+  private List<Either<Notification, CreateCategoryOutput>> createAll(
+      final List<Category> aCategories
+  ) {
+    if (aCategories.isEmpty()) {
+      return List.of();
+    }
+
+    // the batch is written in one transaction, a failure rejects every item in it
+    try {
+      return this.categoryGateway.createAll(aCategories).stream()
+          .map(CreateCategoryOutput::from)
+          .<Either<Notification, CreateCategoryOutput>>map(API::Right)
+          .toList();
+    } catch (final Exception ex) {
+      final var notification = Notification.create(ex);
+      return aCategories.stream()
+          .<Either<Notification, CreateCategoryOutput>>map(it -> API.Left(notification))
+          .toList();
+    }
+  }
+
+  private static List<Either<Notification, CreateCategoryOutput>> fill(
+      final List<Either<Notification, CreateCategoryOutput>> results,
+      final List<Either<Notification, CreateCategoryOutput>> created
+  ) {
+    final var it = created.iterator();
+    for (int i = 0; i < results.size(); i++) {
+      if (results.get(i) == null) {
+        results.set(i, it.next());
+      }
+    }
+    return results;
+  }
+}
@@ -1,7 +1,5 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
-import static io.vavr.API.Try;
-
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -30,9 +28,12 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
     return notification.hasErrors() ? API.Left(notification) : create(aCategory);
   }
 
+  // plain try/catch, the Either is the only wrapper allocated on the write path
   private Either<Notification, CreateCategoryOutput> create(final Category aCategory) {
-    return Try(() -> this.categoryGateway.create(aCategory))
-        .toEither()
-        .bimap(Notification::create, CreateCategoryOutput::from);
+    try {
+      return API.Right(CreateCategoryOutput.from(this.categoryGateway.create(aCategory)));
+    } catch (final Exception ex) {
+      return API.Left(Notification.create(ex));
+    }
   }
 }
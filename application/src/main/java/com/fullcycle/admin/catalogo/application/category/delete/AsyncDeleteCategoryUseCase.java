@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.AsyncUnitUseCase;
+
+public abstract class AsyncDeleteCategoryUseCase extends AsyncUnitUseCase<String> {
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncDeleteCategoryUseCase extends AsyncDeleteCategoryUseCase {
+  private final DeleteCategoryUseCase useCase;
+  private final Executor executor;
+
+  public DefaultAsyncDeleteCategoryUseCase(
+      final DeleteCategoryUseCase useCase,
+      final Executor executor
+  ) {
+    this.useCase = Objects.requireNonNull(useCase);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> execute(final String anId) {
+    return AsyncExecution.supply(() -> {
+      this.useCase.execute(anId);
+      return null;
+    }, this.executor);
+  }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+  private final CategoryGateway categoryGateway;
+  private final RecordWriterFactory writers;
+
+  public DefaultExportCategoriesUseCase(
+      final CategoryGateway categoryGateway,
+      final RecordWriterFactory writers
+  ) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    this.writers = Objects.requireNonNull(writers);
+  }
+
+  // each category is written as soon as it is read, memory stays flat whatever the table size;
+  // the caller owns the stream, it is flushed but never closed here
+  @Override
+  public ExportCategoriesOutput execute(final ExportCategoriesCommand aCommand) {
+    final var aFormat = Objects.requireNonNull(aCommand.format());
+    final var aQuery =
+        new CategorySearchQuery(0, 0, aCommand.terms(), aCommand.sort(), aCommand.direction());
+
+    final var exported = new long[1];
+
+    try {
+      final var writer = this.writers.open(aFormat, aCommand.output());
+      this.categoryGateway.streamAll(aQuery, aCategory -> {
+        try {
+          writer.write(aCategory);
+          exported[0]++;
+        } catch (final IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+      writer.flush();
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+
+    return ExportCategoriesOutput.from(exported[0]);
+  }
+}
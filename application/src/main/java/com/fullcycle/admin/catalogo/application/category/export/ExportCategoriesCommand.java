@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import java.io.OutputStream;
+
+public record ExportCategoriesCommand(
+    String terms,
+    String sort,
+    String direction,
+    ExportFormat format,
+    OutputStream output
+) {
+  public static ExportCategoriesCommand with(
+      final String aTerms,
+      final String aSort,
+      final String aDirection,
+      final ExportFormat aFormat,
+      final OutputStream anOutput
+  ) {
+    return new ExportCategoriesCommand(aTerms, aSort, aDirection, aFormat, anOutput);
+  }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+public record ExportCategoriesOutput(
+    long exported
+) {
+  public static ExportCategoriesOutput from(final long anExported) {
+    return new ExportCategoriesOutput(anExported);
+  }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class ExportCategoriesUseCase
+    extends UseCase<ExportCategoriesCommand, ExportCategoriesOutput> {
+}
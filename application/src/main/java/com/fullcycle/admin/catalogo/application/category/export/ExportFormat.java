@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+public enum ExportFormat {
+  NDJSON,
+  CSV
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import java.io.IOException;
+
+public interface RecordWriter {
+  void write(Category aCategory) throws IOException;
+
+  // pushes what is buffered to the output without closing it, the caller owns the stream
+  void flush() throws IOException;
+}
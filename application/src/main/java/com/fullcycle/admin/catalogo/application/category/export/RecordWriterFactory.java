@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// file formats are written outside the application layer, a format's header goes out on open
+public interface RecordWriterFactory {
+  RecordWriter open(ExportFormat aFormat, OutputStream anOutput) throws IOException;
+}
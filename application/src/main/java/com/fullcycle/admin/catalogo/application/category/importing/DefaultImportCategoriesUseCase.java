@@ -0,0 +1,243 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// reader -> [parsed] -> N validators -> [validated] -> batch writer;
+// both queues are bounded, so a slow database throttles the reader instead of buffering the file.
+// The reader runs on the caller, the other stages on the shared executor, which must be able to
+// run all of them at once (thread per task or an unbounded pool), a stage left queued stalls them
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+  private static final ParsedLine END_OF_INPUT = new ParsedLine(-1, null, null);
+  private static final ValidatedLine END_OF_VALIDATION = new ValidatedLine(-1, null);
+  private static final long POLL_INTERVAL_MS = 50;
+  // a broken file can have millions of bad lines, only these many are kept with their message
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private final CategoryGateway categoryGateway;
+  private final RecordReaderFactory readers;
+  private final Executor executor;
+  private final int parallelism;
+  private final int batchSize;
+  private final int queueCapacity;
+
+  public DefaultImportCategoriesUseCase(
+      final CategoryGateway categoryGateway,
+      final RecordReaderFactory readers,
+      final Executor executor
+  ) {
+    this(categoryGateway, readers, executor, Runtime.getRuntime().availableProcessors(), 500, 1024);
+  }
+
+  public DefaultImportCategoriesUseCase(
+      final CategoryGateway categoryGateway,
+      final RecordReaderFactory readers,
+      final Executor executor,
+      final int parallelism,
+      final int batchSize,
+      final int queueCapacity
+  ) {
+    if (parallelism <= 0 || batchSize <= 0 || queueCapacity <= 0) {
+      throw new IllegalArgumentException(
+          "'parallelism', 'batchSize' and 'queueCapacity' must be greater than zero");
+    }
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    this.readers = Objects.requireNonNull(readers);
+    this.executor = Objects.requireNonNull(executor);
+    this.parallelism = parallelism;
+    this.batchSize = batchSize;
+    this.queueCapacity = queueCapacity;
+  }
+
+  @Override
+  public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+    final var run = new Run();
+    final var writer = new CompletableFuture<Void>();
+
+    // the executor is shared, so stages are never interrupted: a recorded failure stops them
+    // at their next poll
+    try {
+      for (int i = 0; i < this.parallelism; i++) {
+        this.executor.execute(() -> run.guarded(run::validate));
+      }
+      this.executor.execute(() -> {
+        try {
+          run.guarded(run::write);
+        } finally {
+          writer.complete(null);
+        }
+      });
+
+      run.guarded(() -> run.read(aCommand));
+      writer.get();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      run.failure.compareAndSet(null, ex);
+    } catch (final ExecutionException | RuntimeException ex) {
+      run.failure.compareAndSet(null, ex);
+    }
+
+    final var failure = run.failure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Category import aborted: " + failure.getMessage(), failure);
+    }
+
+    return ImportCategoriesOutput.from(run.imported, run.rejected.get(), run.reportedErrors());
+  }
+
+  private record ValidatedLine(long line, Category category) {
+  }
+
+  private interface Stage {
+    void run() throws Exception;
+  }
+
+  private final class Run {
+    private final BlockingQueue<ParsedLine> parsed = new ArrayBlockingQueue<>(queueCapacity);
+    private final BlockingQueue<ValidatedLine> validated = new ArrayBlockingQueue<>(queueCapacity);
+    // the lowest line numbers seen so far, the head is the highest so it is evicted first
+    private final PriorityQueue<ImportLineError> errors = new PriorityQueue<>(
+        Comparator.comparingLong(ImportLineError::line).reversed());
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    // only touched by the writer, published through writer.get()
+    private long imported;
+
+    private void guarded(final Stage aStage) {
+      try {
+        aStage.run();
+      } catch (final Throwable t) {
+        this.failure.compareAndSet(null, t);
+      }
+    }
+
+    private void read(final ImportCategoriesCommand aCommand) throws Exception {
+      final var reader = readers.open(aCommand.format(), aCommand.input());
+
+      for (var aLine = reader.next(); aLine != null; aLine = reader.next()) {
+        if (!put(this.parsed, aLine)) {
+          return;
+        }
+      }
+      for (int i = 0; i < parallelism; i++) {
+        put(this.parsed, END_OF_INPUT);
+      }
+    }
+
+    private void validate() throws InterruptedException {
+      for (var aLine = take(this.parsed); aLine != null; aLine = take(this.parsed)) {
+        if (aLine == END_OF_INPUT) {
+          put(this.validated, END_OF_VALIDATION);
+          return;
+        }
+        if (aLine.notification() != null) {
+          reject(ImportLineError.with(aLine.line(), aLine.notification()));
+          continue;
+        }
+
+        final var aCommand = aLine.command();
+        final var notification = Notification.create();
+        final var aCategory =
+            Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(notification);
+
+        if (notification.hasErrors()) {
+          reject(ImportLineError.with(aLine.line(), notification));
+        } else if (!put(this.validated, new ValidatedLine(aLine.line(), aCategory))) {
+          return;
+        }
+      }
+    }
+
+    private void write() throws InterruptedException {
+      final var batch = new ArrayList<ValidatedLine>(batchSize);
+      var finished = 0;
+
+      while (finished < parallelism) {
+        final var aLine = take(this.validated);
+        if (aLine == null) {
+          return;
+        }
+        if (aLine == END_OF_VALIDATION) {
+          finished++;
+          continue;
+        }
+
+        batch.add(aLine);
+        if (batch.size() >= batchSize) {
+          flush(batch);
+        }
+      }
+      flush(batch);
+    }
+
+    // a rejected batch is reported line by line, the rest of the file keeps going
+    private void flush(final List<ValidatedLine> batch) {
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        categoryGateway.createAll(batch.stream().map(ValidatedLine::category).toList());
+        this.imported += batch.size();
+      } catch (final Exception ex) {
+        batch.forEach(aLine ->
+            reject(ImportLineError.with(aLine.line(), Notification.create(ex))));
+      }
+      batch.clear();
+    }
+
+    private void reject(final ImportLineError anError) {
+      this.rejected.incrementAndGet();
+      synchronized (this.errors) {
+        this.errors.add(anError);
+        if (this.errors.size() > MAX_REPORTED_ERRORS) {
+          this.errors.poll();
+        }
+      }
+    }
+
+    private List<ImportLineError> reportedErrors() {
+      final List<ImportLineError> reported;
+      synchronized (this.errors) {
+        reported = new ArrayList<>(this.errors);
+      }
+      reported.sort(Comparator.comparingLong(ImportLineError::line));
+      return reported;
+    }
+
+    private <T> boolean put(final BlockingQueue<T> aQueue, final T anItem)
+        throws InterruptedException {
+      while (this.failure.get() == null) {
+        if (aQueue.offer(anItem, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private <T> T take(final BlockingQueue<T> aQueue) throws InterruptedException {
+      while (this.failure.get() == null) {
+        final var anItem = aQueue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (anItem != null) {
+          return anItem;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.io.InputStream;
+
+public record ImportCategoriesCommand(
+    InputStream input,
+    ImportFormat format
+) {
+  public static ImportCategoriesCommand with(
+      final InputStream anInput,
+      final ImportFormat aFormat
+  ) {
+    return new ImportCategoriesCommand(anInput, aFormat);
+  }
+}
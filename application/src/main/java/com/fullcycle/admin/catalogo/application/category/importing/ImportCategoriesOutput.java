@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.util.List;
+
+// rejected counts every bad line, errors only details the first ones by line number
+public record ImportCategoriesOutput(
+    long imported,
+    long rejected,
+    List<ImportLineError> errors
+) {
+  public static ImportCategoriesOutput from(
+      final long anImported,
+      final long aRejected,
+      final List<ImportLineError> anErrors
+  ) {
+    return new ImportCategoriesOutput(anImported, aRejected, anErrors);
+  }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class ImportCategoriesUseCase
+    extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+}
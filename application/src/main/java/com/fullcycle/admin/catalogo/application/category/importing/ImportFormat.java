@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+public enum ImportFormat {
+  NDJSON,
+  CSV
+}
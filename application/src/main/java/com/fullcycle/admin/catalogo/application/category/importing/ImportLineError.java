@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+public record ImportLineError(
+    long line,
+    Notification notification
+) {
+  public static ImportLineError with(final long aLine, final Notification aNotification) {
+    return new ImportLineError(aLine, aNotification);
+  }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+public record ParsedLine(
+    long line,
+    CreateCategoryCommand command,
+    Notification notification
+) {
+  public static ParsedLine of(final long aLine, final CreateCategoryCommand aCommand) {
+    return new ParsedLine(aLine, aCommand, null);
+  }
+
+  public static ParsedLine invalid(final long aLine, final String aMessage) {
+    return new ParsedLine(aLine, null, Notification.create(new Error(aMessage)));
+  }
+}
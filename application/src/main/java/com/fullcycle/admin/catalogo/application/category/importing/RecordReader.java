@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.io.IOException;
+
+public interface RecordReader {
+  // null once the input is exhausted
+  ParsedLine next() throws IOException;
+}
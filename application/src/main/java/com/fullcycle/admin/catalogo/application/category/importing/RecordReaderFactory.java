@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// file formats are parsed outside the application layer, the use case only sees parsed lines
+public interface RecordReaderFactory {
+  RecordReader open(ImportFormat aFormat, InputStream anInput) throws IOException;
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCase;
+
+public abstract class AsyncGetCategoryByIdUseCase
+    extends AsyncUseCase<String, CategoryOutput> {
+}
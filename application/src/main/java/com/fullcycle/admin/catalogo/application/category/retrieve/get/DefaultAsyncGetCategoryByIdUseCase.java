@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+  private final GetCategoryByIdUseCase useCase;
+  private final Executor executor;
+
+  public DefaultAsyncGetCategoryByIdUseCase(
+      final GetCategoryByIdUseCase useCase,
+      final Executor executor
+  ) {
+    this.useCase = Objects.requireNonNull(useCase);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public CompletableFuture<CategoryOutput> execute(final String anId) {
+    return AsyncExecution.supply(() -> this.useCase.execute(anId), this.executor);
+  }
+}
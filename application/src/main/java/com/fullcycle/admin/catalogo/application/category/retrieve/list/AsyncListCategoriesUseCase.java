@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class AsyncListCategoriesUseCase
+    extends AsyncUseCase<CategorySearchQuery, Pagination<CategoryListOutput>> {
+}
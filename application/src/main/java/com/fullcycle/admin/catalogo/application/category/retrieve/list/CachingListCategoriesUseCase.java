@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Objects;
+
+public class CachingListCategoriesUseCase extends ListCategoriesUseCase {
+
+  private final ListCategoriesUseCase delegate;
+  private final ListCategoriesCache cache;
+
+  public CachingListCategoriesUseCase(
+      final ListCategoriesUseCase delegate,
+      final ListCategoriesCache cache
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+    return this.cache.get(aQuery).orElseGet(() -> {
+      final var aGeneration = this.cache.generation();
+      final var aPage = this.delegate.execute(aQuery);
+      this.cache.put(aQuery, aGeneration, aPage);
+      return aPage;
+    });
+  }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
 import java.time.Instant;
 
 public record CategoryListOutput(
@@ -23,4 +24,14 @@ public record CategoryListOutput(
         aCategory.getDeletedAt());
   };
 
+  public static CategoryListOutput from(final CategorySummary aSummary) {
+    return new CategoryListOutput(
+        aSummary.id(),
+        aSummary.name(),
+        aSummary.description(),
+        aSummary.isActive(),
+        aSummary.createdAt(),
+        aSummary.deletedAt());
+  }
+
 }
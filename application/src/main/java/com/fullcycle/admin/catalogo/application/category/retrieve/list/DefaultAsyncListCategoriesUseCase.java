@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+  private final ListCategoriesUseCase useCase;
+  private final Executor executor;
+
+  public DefaultAsyncListCategoriesUseCase(
+      final ListCategoriesUseCase useCase,
+      final Executor executor
+  ) {
+    this.useCase = Objects.requireNonNull(useCase);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public CompletableFuture<Pagination<CategoryListOutput>> execute(
+      final CategorySearchQuery aQuery
+  ) {
+    return AsyncExecution.supply(() -> this.useCase.execute(aQuery), this.executor);
+  }
+}
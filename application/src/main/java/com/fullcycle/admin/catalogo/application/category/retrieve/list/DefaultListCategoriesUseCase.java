@@ -15,6 +15,6 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
   @Override
   public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
-    return this.categoryGateway.findAll(aQuery).map(CategoryListOutput::from);
+    return this.categoryGateway.findAllSummaries(aQuery).map(CategoryListOutput::from);
   }
 }
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// the generation only sees writes made through this process; writes from other instances show up
+// once a page is older than timeToLive, which is therefore the staleness bound across a cluster
+public class ListCategoriesCache {
+  private final AtomicLong generation = new AtomicLong();
+  private final Map<CategorySearchQuery, Entry> entries;
+  private final long timeToLiveNanos;
+  private final LongSupplier ticker;
+
+  public ListCategoriesCache(final int maximumSize, final Duration timeToLive) {
+    this(maximumSize, timeToLive, System::nanoTime);
+  }
+
+  public ListCategoriesCache(
+      final int maximumSize,
+      final Duration timeToLive,
+      final LongSupplier ticker
+  ) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("'maximumSize' must be greater than zero");
+    }
+    if (timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("'timeToLive' must be greater than zero");
+    }
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.ticker = Objects.requireNonNull(ticker);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<CategorySearchQuery, Entry> eldest) {
+        return size() > maximumSize;
+      }
+    };
+  }
+
+  public long generation() {
+    return this.generation.get();
+  }
+
+  public void invalidate() {
+    this.generation.incrementAndGet();
+  }
+
+  public Optional<Pagination<CategoryListOutput>> get(final CategorySearchQuery aQuery) {
+    final Entry anEntry;
+    synchronized (this.entries) {
+      anEntry = this.entries.get(aQuery);
+    }
+
+    if (anEntry == null
+        || anEntry.generation() != generation()
+        || this.ticker.getAsLong() - anEntry.loadedAt() >= this.timeToLiveNanos) {
+      return Optional.empty();
+    }
+    return Optional.of(anEntry.page());
+  }
+
+  // a page read before the latest write is dropped instead of being cached as fresh
+  public void put(
+      final CategorySearchQuery aQuery,
+      final long aGeneration,
+      final Pagination<CategoryListOutput> aPage
+  ) {
+    if (aGeneration != generation()) {
+      return;
+    }
+
+    synchronized (this.entries) {
+      this.entries.put(aQuery, new Entry(aGeneration, this.ticker.getAsLong(), aPage));
+    }
+  }
+
+  private record Entry(long generation, long loadedAt, Pagination<CategoryListOutput> page) {
+  }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+  private final UpdateCategoryUseCase useCase;
+  private final Executor executor;
+
+  public DefaultAsyncUpdateCategoryUseCase(
+      final UpdateCategoryUseCase useCase,
+      final Executor executor
+  ) {
+    this.useCase = Objects.requireNonNull(useCase);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(
+      final UpdateCategoryCommand aCommand
+  ) {
+    return AsyncExecution.supply(() -> this.useCase.execute(aCommand), this.executor);
+  }
+}
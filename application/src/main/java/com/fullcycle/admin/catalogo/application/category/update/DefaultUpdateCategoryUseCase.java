@@ -1,7 +1,7 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
 import static io.vavr.API.Left;
-import static io.vavr.API.Try;
+import static io.vavr.API.Right;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
@@ -27,7 +27,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     final var aDescription = aCommand.description();
     final var isActive = aCommand.isActive();
 
-    final var aCategory = this.categoryGateway.findById(anId).orElseThrow(notFound(anId));
+    // the conditional update checks the version read here, so it must not come from a cache
+    final var aCategory = this.categoryGateway.findLatestById(anId).orElseThrow(notFound(anId));
+    if (aCommand.version() != null && aCommand.version() != aCategory.getVersion()) {
+      return Left(Notification.create(modifiedConcurrently(anId)));
+    }
 
     final var notification = Notification.create();
     aCategory.update(aName, aDescription, isActive).validate(notification);
@@ -36,10 +40,16 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
   }
 
   private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-    return Try(() -> this.categoryGateway.update(aCategory))
-        .toEither()
-        .bimap(Notification::create, UpdateCategoryOutput::from);
+    try {
+      return Right(UpdateCategoryOutput.from(this.categoryGateway.update(aCategory)));
+    } catch (final Exception ex) {
+      return Left(Notification.create(ex));
+    }
+  }
 
+  private static Error modifiedConcurrently(final CategoryId anId) {
+    return new Error(
+        "Category with ID %s was modified or removed concurrently".formatted(anId.getValue()));
   }
 
   private static Supplier<DomainException> notFound(final CategoryId anId) {
@@ -1,10 +1,12 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
+// version is the one the client read, null updates whatever is stored
 public record UpdateCategoryCommand(
     String id,
     String name,
     String description,
-    boolean isActive
+    boolean isActive,
+    Long version
 ) {
   public static UpdateCategoryCommand with(
       final String anId,
@@ -12,6 +14,16 @@ public record UpdateCategoryCommand(
       final String aDescription,
       boolean isActive
   ) {
-    return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+    return new UpdateCategoryCommand(anId, aName, aDescription, isActive, null);
+  }
+
+  public static UpdateCategoryCommand with(
+      final String anId,
+      final String aName,
+      final String aDescription,
+      boolean isActive,
+      final Long aVersion
+  ) {
+    return new UpdateCategoryCommand(anId, aName, aDescription, isActive, aVersion);
   }
 }
@@ -4,9 +4,10 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryId;
 
 public record UpdateCategoryOutput(
-    CategoryId id
+    CategoryId id,
+    long version
 ) {
   public static UpdateCategoryOutput from(final Category aCategory) {
-    return new UpdateCategoryOutput(aCategory.getId());
+    return new UpdateCategoryOutput(aCategory.getId(), aCategory.getVersion());
   }
 }
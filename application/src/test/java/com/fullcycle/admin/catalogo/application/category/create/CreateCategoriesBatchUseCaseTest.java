@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesBatchUseCaseTest {
+  @InjectMocks
+  private DefaultCreateCategoriesBatchUseCase useCase;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Test
+  void givenValidAndInvalidCommands_whenCallsCreateCategoriesBatch_shouldReturnResultPerCommand() {
+    final var expectedErrorMessage = "'name' should not be null";
+
+    final var commands = List.of(
+        CreateCategoryCommand.with("Filmes", null, true),
+        CreateCategoryCommand.with(null, "Sem nome", true),
+        CreateCategoryCommand.with("Series", null, false)
+    );
+
+    when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+    final var actualResults = useCase.execute(commands);
+
+    assertEquals(3, actualResults.size());
+    assertTrue(actualResults.get(0).isRight());
+    assertTrue(actualResults.get(1).isLeft());
+    assertTrue(actualResults.get(2).isRight());
+    assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+
+    verify(categoryGateway, times(1)).createAll(argThat(categories ->
+        categories.size() == 2
+            && "Filmes".equals(categories.get(0).getName())
+            && "Series".equals(categories.get(1).getName())
+    ));
+  }
+
+  @Test
+  void givenOnlyInvalidCommands_whenCallsCreateCategoriesBatch_shouldNotCallGateway() {
+    final var commands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+    final var actualResults = useCase.execute(commands);
+
+    assertEquals(1, actualResults.size());
+    assertTrue(actualResults.get(0).isLeft());
+
+    verify(categoryGateway, never()).createAll(any());
+  }
+
+  @Test
+  void givenAGatewayError_whenCallsCreateCategoriesBatch_shouldReturnNotificationForValidCommands() {
+    final var expectedErrorMessage = "Gateway error";
+
+    final var commands = List.of(
+        CreateCategoryCommand.with("Filmes", null, true),
+        CreateCategoryCommand.with(null, null, true)
+    );
+
+    when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+    final var actualResults = useCase.execute(commands);
+
+    assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().firstError().message());
+    assertEquals("'name' should not be null", actualResults.get(1).getLeft().firstError().message());
+  }
+}
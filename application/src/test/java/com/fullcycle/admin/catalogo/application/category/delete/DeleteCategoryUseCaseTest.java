@@ -1,10 +1,10 @@
 package com.fullcycle.admin.catalogo.application.category.delete;
 
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
@@ -37,7 +37,7 @@ public class DeleteCategoryUseCaseTest {
     final var aCategory = Category.newCategory("Filmes", "A categoria mais top", true);
     final var expectedId = aCategory.getId();
 
-    doNothing().when(categoryGateway).deleteById(eq(expectedId));
+    when(categoryGateway.deleteById(eq(expectedId))).thenReturn(1);
 
     Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
 
@@ -49,7 +49,7 @@ public class DeleteCategoryUseCaseTest {
   public void givenAInvalidId_whenCallsDeleteCategory_shouldBeOk() {
     final var expectedId = CategoryId.from("123");
 
-    doNothing().when(categoryGateway).deleteById(eq(expectedId));
+    when(categoryGateway.deleteById(eq(expectedId))).thenReturn(0);
 
     Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
 
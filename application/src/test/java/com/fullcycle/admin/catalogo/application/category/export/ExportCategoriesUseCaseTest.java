@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  private final List<Category> written = new ArrayList<>();
+  private ExportFormat openedFormat;
+  private OutputStream openedOutput;
+  private boolean flushed;
+
+  private DefaultExportCategoriesUseCase useCase;
+
+  private final List<Category> categories = List.of(
+      Category.newCategory("Filmes", "A mais assistida", true),
+      Category.newCategory("Series", null, false)
+  );
+
+  @BeforeEach
+  void setUp() {
+    final RecordWriterFactory writers = (aFormat, anOutput) -> {
+      this.openedFormat = aFormat;
+      this.openedOutput = anOutput;
+      return new RecordWriter() {
+        @Override
+        public void write(final Category aCategory) {
+          written.add(aCategory);
+        }
+
+        @Override
+        public void flush() {
+          flushed = true;
+        }
+      };
+    };
+    this.useCase = new DefaultExportCategoriesUseCase(categoryGateway, writers);
+  }
+
+  @Test
+  void givenCategories_whenCallsExport_shouldWriteEveryStreamedCategoryAndFlush() {
+    givenStreamedCategories();
+    final var out = new ByteArrayOutputStream();
+
+    final var actualOutput = useCase.execute(
+        ExportCategoriesCommand.with("", "name", "asc", ExportFormat.CSV, out));
+
+    assertEquals(2, actualOutput.exported());
+    assertEquals(ExportFormat.CSV, openedFormat);
+    assertSame(out, openedOutput);
+    assertEquals(categories, written);
+    assertTrue(flushed);
+
+    verify(categoryGateway, times(1)).streamAll(argThat(query ->
+        "name".equals(query.sort()) && "asc".equals(query.direction())), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenStreamedCategories() {
+    doAnswer(invocation -> {
+      final Consumer<Category> anAction = invocation.getArgument(1);
+      categories.forEach(anAction);
+      return null;
+    }).when(categoryGateway).streamAll(any(), any());
+  }
+}
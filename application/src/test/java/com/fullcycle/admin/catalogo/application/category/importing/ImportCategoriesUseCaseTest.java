@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+  private static final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @AfterAll
+  static void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void givenParsedLines_whenCallsImport_shouldCreateValidLinesAndReportInvalidOnes() {
+    final var created = Collections.synchronizedList(new ArrayList<Category>());
+    when(categoryGateway.createAll(any())).thenAnswer(invocation -> {
+      final List<Category> categories = invocation.getArgument(0);
+      created.addAll(categories);
+      return categories;
+    });
+
+    final var readers = readerOf(
+        ParsedLine.of(1, CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true)),
+        ParsedLine.of(2, CreateCategoryCommand.with(null, null, true)),
+        ParsedLine.of(4, CreateCategoryCommand.with("Series", null, false)),
+        ParsedLine.invalid(5, "Malformed JSON at column 17: unexpected end-of-input"),
+        ParsedLine.of(6, CreateCategoryCommand.with("Documentarios", "Com \"aspas\"", true)));
+
+    final var useCase =
+        new DefaultImportCategoriesUseCase(categoryGateway, readers, executor, 2, 2, 1);
+    final var actualOutput = useCase.execute(aCommand());
+
+    assertEquals(3, actualOutput.imported());
+    assertEquals(2, actualOutput.rejected());
+    assertEquals(2, actualOutput.errors().size());
+    assertEquals(2, actualOutput.errors().get(0).line());
+    assertEquals("'name' should not be null",
+        actualOutput.errors().get(0).notification().firstError().message());
+    assertEquals(5, actualOutput.errors().get(1).line());
+    assertEquals("Malformed JSON at column 17: unexpected end-of-input",
+        actualOutput.errors().get(1).notification().firstError().message());
+
+    created.sort(Comparator.comparing(Category::getName));
+    assertEquals(3, created.size());
+    assertEquals("Com \"aspas\"", created.get(0).getDescription());
+    assertEquals("Filmes", created.get(1).getName());
+    assertEquals("Series", created.get(2).getName());
+    assertFalse(created.get(2).isActive());
+
+    verify(categoryGateway, atLeast(1)).createAll(any());
+  }
+
+  @Test
+  void givenAGatewayError_whenCallsImport_shouldReportEveryLineOfTheBatch() {
+    final var expectedErrorMessage = "Gateway error";
+    when(categoryGateway.createAll(any()))
+        .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+    final var readers = readerOf(
+        ParsedLine.of(1, CreateCategoryCommand.with("Filmes", null, true)),
+        ParsedLine.of(2, CreateCategoryCommand.with("Series", null, true)));
+
+    final var useCase =
+        new DefaultImportCategoriesUseCase(categoryGateway, readers, executor, 1, 10, 4);
+    final var actualOutput = useCase.execute(aCommand());
+
+    assertEquals(0, actualOutput.imported());
+    assertEquals(2, actualOutput.errors().size());
+    assertEquals(1, actualOutput.errors().get(0).line());
+    assertEquals(2, actualOutput.errors().get(1).line());
+    assertEquals(expectedErrorMessage,
+        actualOutput.errors().get(1).notification().firstError().message());
+  }
+
+  @Test
+  void givenMoreBadLinesThanReported_whenCallsImport_shouldCountThemAllAndDetailTheFirstOnes() {
+    final var expectedRejected = DefaultImportCategoriesUseCase.MAX_REPORTED_ERRORS + 50;
+    final var readers = readerOf(LongStream.rangeClosed(1, expectedRejected)
+        .mapToObj(aLine -> ParsedLine.of(aLine, CreateCategoryCommand.with(null, null, true)))
+        .toArray(ParsedLine[]::new));
+
+    final var useCase =
+        new DefaultImportCategoriesUseCase(categoryGateway, readers, executor, 2, 10, 4);
+    final var actualOutput = useCase.execute(aCommand());
+
+    assertEquals(0, actualOutput.imported());
+    assertEquals(expectedRejected, actualOutput.rejected());
+    assertEquals(DefaultImportCategoriesUseCase.MAX_REPORTED_ERRORS, actualOutput.errors().size());
+    assertEquals(1, actualOutput.errors().get(0).line());
+    assertEquals(DefaultImportCategoriesUseCase.MAX_REPORTED_ERRORS,
+        actualOutput.errors().get(DefaultImportCategoriesUseCase.MAX_REPORTED_ERRORS - 1).line());
+  }
+
+  private static ImportCategoriesCommand aCommand() {
+    return ImportCategoriesCommand.with(InputStream.nullInputStream(), ImportFormat.NDJSON);
+  }
+
+  private static RecordReaderFactory readerOf(final ParsedLine... lines) {
+    return (aFormat, anInput) -> {
+      final var iterator = List.of(lines).iterator();
+      return () -> iterator.hasNext() ? iterator.next() : null;
+    };
+  }
+}
@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncGetCategoryByIdUseCaseTest {
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  private DefaultAsyncGetCategoryByIdUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    useCase = new DefaultAsyncGetCategoryByIdUseCase(
+        new DefaultGetCategoryByIdUseCase(categoryGateway), executor);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void givenAValidId_whenCallsAsyncGetCategory_shouldCompleteWithCategory() {
+    final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var expectedId = aCategory.getId();
+
+    Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+        .thenReturn(Optional.of(aCategory.clone()));
+
+    final var actualCategory = useCase.execute(expectedId.getValue()).join();
+
+    Assertions.assertEquals(expectedId, actualCategory.id());
+    Assertions.assertEquals("Filmes", actualCategory.name());
+  }
+
+  @Test
+  public void givenAnUnknownId_whenCallsAsyncGetCategory_shouldCompleteExceptionally() {
+    Mockito.when(categoryGateway.findById(Mockito.any())).thenReturn(Optional.empty());
+
+    final var actualException = Assertions.assertThrows(
+        CompletionException.class, () -> useCase.execute("123").join());
+
+    Assertions.assertInstanceOf(DomainException.class, actualException.getCause());
+  }
+
+  @Test
+  public void givenASlowGateway_whenTimesOut_shouldInterruptTheRunningCall() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var interrupted = new CountDownLatch(1);
+
+    Mockito.when(categoryGateway.findById(Mockito.any())).thenAnswer(invocation -> {
+      started.countDown();
+      try {
+        Thread.sleep(10_000);
+      } catch (final InterruptedException ex) {
+        interrupted.countDown();
+      }
+      return Optional.empty();
+    });
+
+    final var future = useCase.execute("123", Duration.ofMillis(50));
+
+    final var actualException = Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertInstanceOf(TimeoutException.class, actualException.getCause());
+    Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+    Assertions.assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+  }
+}
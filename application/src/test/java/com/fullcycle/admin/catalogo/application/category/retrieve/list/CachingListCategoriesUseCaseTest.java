@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingListCategoriesUseCaseTest {
+  @Mock
+  private ListCategoriesUseCase delegate;
+
+  private final AtomicLong ticker = new AtomicLong();
+
+  private ListCategoriesCache cache;
+
+  private CachingListCategoriesUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ListCategoriesCache(2, Duration.ofSeconds(30), ticker::get);
+    useCase = new CachingListCategoriesUseCase(delegate, cache);
+  }
+
+  @Test
+  void givenaCachedQuery_whenCallsListCategoriesAgain_thenShouldNotCallDelegate() {
+    final var aQuery = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    final var expectedPage = page();
+
+    when(delegate.execute(eq(aQuery))).thenReturn(expectedPage);
+
+    assertSame(expectedPage, useCase.execute(aQuery));
+    assertSame(expectedPage, useCase.execute(aQuery));
+
+    verify(delegate, times(1)).execute(eq(aQuery));
+  }
+
+  @Test
+  void givenaCachedQuery_whenCacheIsInvalidated_thenShouldCallDelegateAgain() {
+    final var aQuery = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    final var expectedPage = page();
+
+    when(delegate.execute(eq(aQuery))).thenReturn(expectedPage);
+
+    useCase.execute(aQuery);
+    cache.invalidate();
+    useCase.execute(aQuery);
+
+    verify(delegate, times(2)).execute(eq(aQuery));
+  }
+
+  @Test
+  void givenaCachedQuery_whenTimeToLiveElapses_thenShouldCallDelegateAgain() {
+    final var aQuery = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    final var expectedPage = page();
+
+    when(delegate.execute(eq(aQuery))).thenReturn(expectedPage);
+
+    useCase.execute(aQuery);
+    ticker.addAndGet(Duration.ofSeconds(29).toNanos());
+    useCase.execute(aQuery);
+    ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+    useCase.execute(aQuery);
+
+    verify(delegate, times(2)).execute(eq(aQuery));
+  }
+
+  @Test
+  void givenaWriteDuringLoad_whenCallsListCategories_thenShouldNotCacheStalePage() {
+    final var aQuery = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    final var expectedPage = page();
+
+    when(delegate.execute(eq(aQuery))).thenAnswer(invocation -> {
+      cache.invalidate();
+      return expectedPage;
+    });
+
+    assertSame(expectedPage, useCase.execute(aQuery));
+    assertEquals(true, cache.get(aQuery).isEmpty());
+  }
+
+  @Test
+  void givenaFullCache_whenCallsAnotherQuery_thenShouldEvictLeastRecentlyUsed() {
+    final var first = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    final var second = new CategorySearchQuery(1, 10, "", "createdAt", "asc");
+    final var third = new CategorySearchQuery(2, 10, "", "createdAt", "asc");
+
+    when(delegate.execute(first)).thenReturn(page());
+    when(delegate.execute(second)).thenReturn(page());
+    when(delegate.execute(third)).thenReturn(page());
+
+    useCase.execute(first);
+    useCase.execute(second);
+    useCase.execute(first);
+    useCase.execute(third);
+
+    assertEquals(true, cache.get(first).isPresent());
+    assertEquals(true, cache.get(second).isEmpty());
+    assertEquals(true, cache.get(third).isPresent());
+  }
+
+  private static Pagination<CategoryListOutput> page() {
+    final var items = List.of(
+        CategoryListOutput.from(Category.newCategory("Filmes", null, true))
+    );
+    return new Pagination<>(0, 10, items.size(), items);
+  }
+}
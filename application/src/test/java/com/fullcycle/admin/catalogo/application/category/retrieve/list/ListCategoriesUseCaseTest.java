@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import java.util.Collections;
 import java.util.List;
@@ -35,8 +36,8 @@ public class ListCategoriesUseCaseTest {
   @Test
   void givenaValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
     final var categories = List.of(
-        Category.newCategory("Filmes", null, true),
-        Category.newCategory("Filmes", null, true)
+        CategorySummary.from(Category.newCategory("Filmes", null, true)),
+        CategorySummary.from(Category.newCategory("Filmes", null, true))
     );
 
     final var expectedPage = 0;
@@ -58,7 +59,7 @@ public class ListCategoriesUseCaseTest {
     final var expectedItemsCount = 2;
     final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-    when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+    when(categoryGateway.findAllSummaries(eq(aQuery))).thenReturn(expectedPagination);
 
     final var actualResult = useCase.execute(aQuery);
 
@@ -71,7 +72,7 @@ public class ListCategoriesUseCaseTest {
 
   @Test
   void givenaValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-    final var categories = List.<Category>of();
+    final var categories = List.<CategorySummary>of();
 
     final var expectedPage = 0;
     final var expectedPerPage = 10;
@@ -92,7 +93,7 @@ public class ListCategoriesUseCaseTest {
     final var expectedItemsCount = 0;
     final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-    when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+    when(categoryGateway.findAllSummaries(eq(aQuery))).thenReturn(expectedPagination);
 
     final var actualResult = useCase.execute(aQuery);
 
@@ -120,7 +121,7 @@ public class ListCategoriesUseCaseTest {
             expectedDirection);
 
 
-    when(categoryGateway.findAll(eq(aQuery))).thenThrow(
+    when(categoryGateway.findAllSummaries(eq(aQuery))).thenThrow(
         new IllegalStateException(expectedErrorMessage));
 
     final var actualException =
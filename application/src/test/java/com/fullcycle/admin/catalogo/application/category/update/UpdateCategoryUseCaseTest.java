@@ -64,7 +64,7 @@ public class UpdateCategoryUseCaseTest {
         expectedIsActive
     );
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(aCategory.clone()));
     when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -72,8 +72,9 @@ public class UpdateCategoryUseCaseTest {
 
     assertNotNull(actualOutput);
     assertNotNull(actualOutput.id());
+    assertEquals(aCategory.getVersion(), actualOutput.version());
 
-    verify(categoryGateway, times(1)).findById(eq(expectedId));
+    verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
 
     verify(categoryGateway, times(1)).update(argThat(
         anUpdatedCategory -> Objects.equals(expectedName, anUpdatedCategory.getName())
@@ -106,7 +107,7 @@ public class UpdateCategoryUseCaseTest {
         expectedIsActive
     );
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(aCategory.clone()));
 
     final var notification = useCase.execute(aCommand).getLeft();
@@ -135,7 +136,7 @@ public class UpdateCategoryUseCaseTest {
         expectedIsActive
     );
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(aCategory.clone()));
     when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -147,7 +148,7 @@ public class UpdateCategoryUseCaseTest {
     assertNotNull(actualOutput);
     assertNotNull(actualOutput.id());
 
-    verify(categoryGateway, times(1)).findById(eq(expectedId));
+    verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
 
     verify(categoryGateway, times(1)).update(argThat(
         anUpdatedCategory -> Objects.equals(expectedName, anUpdatedCategory.getName())
@@ -180,7 +181,7 @@ public class UpdateCategoryUseCaseTest {
         expectedIsActive
     );
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(aCategory.clone()));
 
     when(categoryGateway.update(any()))
@@ -220,7 +221,7 @@ public class UpdateCategoryUseCaseTest {
         expectedIsActive
     );
 
-    when(categoryGateway.findById(eq(CategoryId.from(expectedId))))
+    when(categoryGateway.findLatestById(eq(CategoryId.from(expectedId))))
         .thenReturn(Optional.empty());
 
     final var actualException =
@@ -229,8 +230,37 @@ public class UpdateCategoryUseCaseTest {
     assertEquals(expectedErrorCount, actualException.getErrors().size());
     assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(categoryGateway, times(1)).findById(eq(CategoryId.from(expectedId)));
+    verify(categoryGateway, times(1)).findLatestById(eq(CategoryId.from(expectedId)));
 
     verify(categoryGateway, times(0)).update(any());
   }
+
+  @Test
+  public void givenAStaleVersion_whenCallsUpdateCategory_shouldReturnConcurrentModificationError() {
+    final var aCategory = Category.with(Category.newCategory("Film", null, true), 3);
+
+    final var expectedId = aCategory.getId();
+    final var expectedErrorMessage =
+        "Category with ID %s was modified or removed concurrently".formatted(expectedId.getValue());
+    final var expectedErrorCount = 1;
+
+    final var aCommand = UpdateCategoryCommand.with(
+        expectedId.getValue(),
+        "Filmes",
+        "A categoria mais assistida",
+        true,
+        2L
+    );
+
+    when(categoryGateway.findLatestById(eq(expectedId)))
+        .thenReturn(Optional.of(aCategory.clone()));
+
+    final var notification = useCase.execute(aCommand).getLeft();
+
+    assertEquals(expectedErrorCount, notification.getErrors().size());
+    assertEquals(expectedErrorMessage, notification.firstError().message());
+
+    verify(categoryGateway, never()).findById(any());
+    verify(categoryGateway, never()).update(any());
+  }
 }
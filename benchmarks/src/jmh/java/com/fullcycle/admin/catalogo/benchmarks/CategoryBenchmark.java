@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class CategoryBenchmark {
+
+  @Param({"Filmes", "  "})
+  private String name;
+
+  private final String description = "A categoria mais assistida";
+
+  @Benchmark
+  public Notification newCategoryAndValidate() {
+    final var notification = Notification.create();
+    Category.newCategory(name, description, true).validate(notification);
+    return notification;
+  }
+}
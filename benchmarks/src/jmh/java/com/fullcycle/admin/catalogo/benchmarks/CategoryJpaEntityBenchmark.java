@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class CategoryJpaEntityBenchmark {
+
+  private Category aCategory;
+  private CategoryJpaEntity anEntity;
+
+  @Setup
+  public void setUp() {
+    aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    anEntity = CategoryJpaEntity.from(aCategory);
+  }
+
+  @Benchmark
+  public CategoryJpaEntity from() {
+    return CategoryJpaEntity.from(aCategory);
+  }
+
+  @Benchmark
+  public Category toAggregate() {
+    return anEntity.toAggregate();
+  }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMysqlGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// runs the real gateway against the in-memory H2 of the test profile, no MySQL needed
+@State(Scope.Benchmark)
+public class CategoryMysqlGatewayBenchmark {
+
+  @Param({"1000"})
+  private int categories;
+
+  private ConfigurableApplicationContext context;
+  private CategoryMysqlGateway gateway;
+
+  private CategorySearchQuery firstPage;
+  private CategorySearchQuery deepPage;
+  private CategorySearchQuery byTerms;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(WebServerConfig.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .run();
+    gateway = context.getBean(CategoryMysqlGateway.class);
+
+    gateway.createAll(IntStream.range(0, categories)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, "Descricao " + i, i % 2 == 0))
+        .toList());
+
+    firstPage = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+    deepPage = new CategorySearchQuery(categories / 10 - 1, 10, "", "createdAt", "asc");
+    byTerms = new CategorySearchQuery(0, 10, "Categoria 1", "name", "asc");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Pagination<Category> findAllFirstPage() {
+    return gateway.findAll(firstPage);
+  }
+
+  @Benchmark
+  public Pagination<Category> findAllDeepPage() {
+    return gateway.findAll(deepPage);
+  }
+
+  @Benchmark
+  public Pagination<Category> findAllByTerms() {
+    return gateway.findAll(byTerms);
+  }
+}
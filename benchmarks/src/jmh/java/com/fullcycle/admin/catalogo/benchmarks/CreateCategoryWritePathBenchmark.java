@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import static io.vavr.API.Try;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// the vavr variant reproduces the former Try(...).toEither().bimap(...) flow for comparison
+@State(Scope.Benchmark)
+public class CreateCategoryWritePathBenchmark {
+
+  @Param({"false", "true"})
+  private boolean failWrites;
+
+  private CategoryGateway gateway;
+  private DefaultCreateCategoryUseCase useCase;
+  private CreateCategoryCommand aCommand;
+
+  @Setup
+  public void setUp() {
+    gateway = new NoOpCategoryGateway(failWrites);
+    useCase = new DefaultCreateCategoryUseCase(gateway);
+    aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+  }
+
+  @Benchmark
+  public Either<Notification, CreateCategoryOutput> tryCatch() {
+    return useCase.execute(aCommand);
+  }
+
+  @Benchmark
+  public Either<Notification, CreateCategoryOutput> vavrTry() {
+    final var notification = Notification.create();
+    final var aCategory =
+        Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+    aCategory.validate(notification);
+
+    if (notification.hasErrors()) {
+      return API.Left(notification);
+    }
+
+    return Try(() -> gateway.create(aCategory))
+        .toEither()
+        .bimap(Notification::create, CreateCategoryOutput::from);
+  }
+}
@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// echoes writes back so the use case overhead is measured without any I/O
+class NoOpCategoryGateway implements CategoryGateway {
+  private final boolean failWrites;
+
+  NoOpCategoryGateway(final boolean failWrites) {
+    this.failWrites = failWrites;
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    return write(aCategory);
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    return aCategories;
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    return 0;
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    return 0;
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    return write(aCategory);
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    return aCategories;
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+  }
+
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+  }
+
+  private Category write(final Category aCategory) {
+    if (failWrites) {
+      throw new IllegalStateException("Gateway error");
+    }
+    return aCategory;
+  }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class NotificationBenchmark {
+
+  @Param({"0", "1", "10"})
+  private int errors;
+
+  private final Error anError = new Error("'name' should not be null");
+
+  @Benchmark
+  public Notification accumulate() {
+    final var notification = Notification.create();
+    for (int i = 0; i < errors; i++) {
+      notification.append(anError);
+    }
+    return notification;
+  }
+
+  @Benchmark
+  public boolean accumulateAndCheck() {
+    return accumulate().hasErrors();
+  }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+  @Param({"10", "100"})
+  private int perPage;
+
+  private Pagination<Category> page;
+
+  @Setup
+  public void setUp() {
+    final var items = IntStream.range(0, perPage)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList();
+    page = new Pagination<>(0, perPage, 1_000, items);
+  }
+
+  @Benchmark
+  public Pagination<CategoryListOutput> map() {
+    return page.map(CategoryListOutput::from);
+  }
+}
@@ -13,6 +13,7 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
   private Instant createdAt;
   private Instant updatedAt;
   private Instant deletedAt;
+  private final long version;
 
   private Category(final CategoryId anId,
                    final String AName,
@@ -20,7 +21,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
                    final boolean isActive,
                    final Instant aCreationDate,
                    final Instant anUpdateDate,
-                   final Instant aDeleteDate) {
+                   final Instant aDeleteDate,
+                   final long aVersion) {
     super(anId);
     this.name = AName;
     this.description = aDescription;
@@ -28,14 +30,15 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
     this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' cannot be null");
     this.updatedAt = Objects.requireNonNull(anUpdateDate, "'updatedAt' cannot be null");
     this.deletedAt = aDeleteDate;
+    this.version = aVersion;
   }
 
   public static Category newCategory(final String aName, final String aDescription,
                                      final boolean isActive) {
     final var id = CategoryId.unique();
     final var now = InstantUtils.now();
-    final var deletedAt = isActive ? null : InstantUtils.now();
-    return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+    final var deletedAt = isActive ? null : now;
+    return new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
   }
 
   public static Category with(
@@ -46,6 +49,19 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
       final Instant createdAt,
       final Instant updatedAt,
       final Instant deletedAt
+  ) {
+    return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+  }
+
+  public static Category with(
+      final CategoryId anId,
+      final String name,
+      final String description,
+      final boolean active,
+      final Instant createdAt,
+      final Instant updatedAt,
+      final Instant deletedAt,
+      final long version
   ) {
     return new Category(
         anId,
@@ -54,10 +70,15 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         active,
         createdAt,
         updatedAt,
-        deletedAt);
+        deletedAt,
+        version);
   }
 
   public static Category with(final Category aCategory) {
+    return with(aCategory, aCategory.version);
+  }
+
+  public static Category with(final Category aCategory, final long aVersion) {
     return with(
         aCategory.getId(),
         aCategory.name,
@@ -65,7 +86,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         aCategory.isActive(),
         aCategory.createdAt,
         aCategory.updatedAt,
-        aCategory.deletedAt);
+        aCategory.deletedAt,
+        aVersion);
   }
 
   @Override
@@ -74,30 +96,39 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
   }
 
   public Category update(final String aName, final String aDescription, final boolean isActive) {
+    final var now = InstantUtils.now();
     if (isActive) {
-      activate();
+      activate(now);
     } else {
-      deactivate();
+      deactivate(now);
     }
     this.name = aName;
     this.description = aDescription;
-    this.updatedAt = InstantUtils.now();
     return this;
   }
 
   public Category activate() {
+    return activate(InstantUtils.now());
+  }
+
+  public Category deactivate() {
+    return deactivate(InstantUtils.now());
+  }
+
+  // a mutation reads the clock once and stamps every field with the same instant
+  private Category activate(final Instant now) {
     this.deletedAt = null;
     this.active = true;
-    this.updatedAt = InstantUtils.now();
+    this.updatedAt = now;
     return this;
   }
 
-  public Category deactivate() {
+  private Category deactivate(final Instant now) {
     if (this.getDeletedAt() == null) {
-      this.deletedAt = InstantUtils.now();
+      this.deletedAt = now;
     }
     this.active = false;
-    this.updatedAt = InstantUtils.now();
+    this.updatedAt = now;
     return this;
   }
 
@@ -129,6 +160,11 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
     return deletedAt;
   }
 
+  // the persisted revision this instance was read at, used for optimistic concurrency
+  public long getVersion() {
+    return version;
+  }
+
   @Override
   public Category clone() {
     try {
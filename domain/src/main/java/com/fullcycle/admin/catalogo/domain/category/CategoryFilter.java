@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+// null means "any"; date ranges include their start and exclude their end
+public record CategoryFilter(
+    Boolean active,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo
+) {
+  public static final CategoryFilter NONE = new CategoryFilter(null, null, null, null, null);
+
+  public static CategoryFilter activeOnly() {
+    return NONE.withActive(true);
+  }
+
+  public CategoryFilter withActive(final Boolean isActive) {
+    return new CategoryFilter(isActive, createdFrom, createdTo, updatedFrom, updatedTo);
+  }
+
+  public CategoryFilter withCreatedBetween(final Instant aFrom, final Instant aTo) {
+    return new CategoryFilter(active, aFrom, aTo, updatedFrom, updatedTo);
+  }
+
+  public CategoryFilter withUpdatedBetween(final Instant aFrom, final Instant aTo) {
+    return new CategoryFilter(active, createdFrom, createdTo, aFrom, aTo);
+  }
+
+  public boolean isEmpty() {
+    return NONE.equals(this);
+  }
+
+  public boolean test(final Category aCategory) {
+    return (active == null || active == aCategory.isActive())
+        && within(aCategory.getCreatedAt(), createdFrom, createdTo)
+        && within(aCategory.getUpdatedAt(), updatedFrom, updatedTo);
+  }
+
+  private static boolean within(final Instant aValue, final Instant aFrom, final Instant aTo) {
+    return (aFrom == null || !aValue.isBefore(aFrom)) && (aTo == null || aValue.isBefore(aTo));
+  }
+}
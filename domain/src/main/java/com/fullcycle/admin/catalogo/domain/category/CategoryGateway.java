@@ -1,17 +1,32 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
   Category create(Category aCategory);
 
-  void deleteById(CategoryId anId);
+  List<Category> createAll(List<Category> aCategories);
+
+  int deleteById(CategoryId anId);
+
+  int deleteAllById(Collection<CategoryId> anIds);
 
   Optional<Category> findById(CategoryId anId);
 
+  Optional<Category> findLatestById(CategoryId anId);
+
   Category update(Category aCategory);
 
+  List<Category> updateAll(List<Category> aCategories);
+
   Pagination<Category> findAll(CategorySearchQuery aQuery);
 
+  Pagination<CategorySummary> findAllSummaries(CategorySearchQuery aQuery);
+
+  void streamAll(CategorySearchQuery aQuery, Consumer<Category> anAction);
+
 }
@@ -1,28 +1,82 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
 
 public class CategoryId extends Identifier {
-    private final String value;
+    private static final int UUID_LENGTH = 36;
 
-    private CategoryId(final String value) {
-        Objects.requireNonNull(value, "'value' cannot be null");
-        this.value = value;
+    private final long mostSigBits;
+    private final long leastSigBits;
+    // only set for ids that are not UUIDs, which keep their original form
+    private final String raw;
+    // canonical lowercase form, built on first use; racing threads build equal strings
+    private String value;
+
+    private CategoryId(final long mostSigBits, final long leastSigBits, final String raw) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.raw = raw;
     }
 
     public static CategoryId unique(){
-        return CategoryId.from(UUID.randomUUID());
+        return CategoryId.from(IdUtils.uuid());
     }
 
     public static CategoryId from(final String anId) {
-        return new CategoryId(anId);
+        Objects.requireNonNull(anId, "'value' cannot be null");
+        if (anId.length() != UUID_LENGTH) {
+            return new CategoryId(0L, 0L, anId);
+        }
+
+        long mostSigBits = 0L;
+        long leastSigBits = 0L;
+        int nibbles = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char c = anId.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return new CategoryId(0L, 0L, anId);
+                }
+                continue;
+            }
+
+            final int digit = hexDigit(c);
+            if (digit < 0) {
+                return new CategoryId(0L, 0L, anId);
+            }
+
+            if (nibbles++ < 16) {
+                mostSigBits = (mostSigBits << 4) | digit;
+            } else {
+                leastSigBits = (leastSigBits << 4) | digit;
+            }
+        }
+        return new CategoryId(mostSigBits, leastSigBits, null);
     }
 
     public static CategoryId from(final UUID anId) {
-        return new CategoryId(anId.toString().toLowerCase());
+        return new CategoryId(anId.getMostSignificantBits(), anId.getLeastSignificantBits(), null);
+    }
+
+    public boolean isUuid() {
+        return raw == null;
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
     }
 
     @Override
@@ -30,16 +84,27 @@ public class CategoryId extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryId that = (CategoryId) o;
-        return value.equals(that.value);
+        return mostSigBits == that.mostSigBits
+            && leastSigBits == that.leastSigBits
+            && Objects.equals(raw, that.raw);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return raw != null ? raw.hashCode() : Long.hashCode(mostSigBits ^ leastSigBits);
     }
 
     @Override
     public String getValue() {
-        return value;
+        if (raw != null) {
+            return raw;
+        }
+
+        var aValue = value;
+        if (aValue == null) {
+            aValue = new UUID(mostSigBits, leastSigBits).toString();
+            value = aValue;
+        }
+        return aValue;
     }
 }
@@ -5,6 +5,41 @@ public record CategorySearchQuery(
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String after,
+    boolean includeTotal,
+    CategoryFilter filter
 ) {
+  public CategorySearchQuery {
+    filter = filter == null ? CategoryFilter.NONE : filter;
+  }
+
+  public CategorySearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction
+  ) {
+    this(page, perPage, terms, sort, direction, null, true, CategoryFilter.NONE);
+  }
+
+  public CategorySearchQuery withSort(final String aSort) {
+    return new CategorySearchQuery(
+        page, perPage, terms, aSort, direction, after, includeTotal, filter);
+  }
+
+  public CategorySearchQuery withAfter(final String anAfter) {
+    return new CategorySearchQuery(
+        page, perPage, terms, sort, direction, anAfter, includeTotal, filter);
+  }
+
+  public CategorySearchQuery withoutTotal() {
+    return new CategorySearchQuery(page, perPage, terms, sort, direction, after, false, filter);
+  }
+
+  public CategorySearchQuery withFilter(final CategoryFilter aFilter) {
+    return new CategorySearchQuery(
+        page, perPage, terms, sort, direction, after, includeTotal, aFilter);
+  }
 }
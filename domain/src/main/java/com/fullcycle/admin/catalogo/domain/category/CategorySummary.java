@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+// read-only listing view, loaded straight from the columns without building an aggregate
+public record CategorySummary(
+    CategoryId id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant deletedAt
+) {
+
+  public static CategorySummary from(final Category aCategory) {
+    return new CategorySummary(
+        aCategory.getId(),
+        aCategory.getName(),
+        aCategory.getDescription(),
+        aCategory.isActive(),
+        aCategory.getCreatedAt(),
+        aCategory.getDeletedAt());
+  }
+}
@@ -32,10 +32,23 @@ public class CategoryValidator extends Validator {
       return;
     }
 
-        final int length = name.trim().length();
+        final int length = trimmedLength(name);
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
             this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
         }
 
     }
+
+    // same bounds as String.trim(), measured in place instead of copying the name
+    private static int trimmedLength(final String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
 }
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+// a null key (a null sort value) is encoded without its last segment
+public record Cursor(
+    String sort,
+    String key,
+    String id
+) {
+  private static final String SEPARATOR = "\n";
+
+  public Cursor {
+    Objects.requireNonNull(sort, "'sort' cannot be null");
+    Objects.requireNonNull(id, "'id' cannot be null");
+  }
+
+  public static Cursor with(final String aSort, final String aKey, final String anId) {
+    return new Cursor(aSort, aKey, anId);
+  }
+
+  public static Cursor decode(final String aToken) {
+    final String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+    } catch (final IllegalArgumentException e) {
+      throw invalid(aToken);
+    }
+
+    final var parts = raw.split(SEPARATOR, 3);
+    if (parts.length < 2) {
+      throw invalid(aToken);
+    }
+    return new Cursor(parts[0], parts.length == 3 ? parts[2] : null, parts[1]);
+  }
+
+  public String encode() {
+    final var raw = key == null
+        ? sort + SEPARATOR + id
+        : sort + SEPARATOR + id + SEPARATOR + key;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static DomainException invalid(final String aToken) {
+    return DomainException.with(new Error("Invalid pagination cursor '%s'".formatted(aToken)));
+  }
+}
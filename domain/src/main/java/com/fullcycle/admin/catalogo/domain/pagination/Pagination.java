@@ -7,13 +7,36 @@ public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    boolean hasNext,
+    String nextCursor
 ) {
+  public static final long UNKNOWN_TOTAL = -1L;
+
+  public Pagination(
+      final int currentPage,
+      final int perPage,
+      final long total,
+      final List<T> items
+  ) {
+    this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total, null);
+  }
+
+  public boolean hasTotal() {
+    return total != UNKNOWN_TOTAL;
+  }
+
   public <R> Pagination<R> map(final Function<T, R> mapper) {
     final var aNewList = this.items.stream()
         .map(mapper)
         .toList();
 
-    return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+    return new Pagination<>(
+        currentPage(),
+        perPage(),
+        total(),
+        aNewList,
+        hasNext(),
+        nextCursor());
   }
 }
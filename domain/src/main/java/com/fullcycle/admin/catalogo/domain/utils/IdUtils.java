@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long VARIANT_RFC4122 = 0x8000000000000000L;
+
+  // unix millis in the high bits, a per-millisecond counter in the low 12
+  private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+  private static volatile Generator generator = Generator.RANDOM;
+
+  private IdUtils() {
+  }
+
+  public static UUID uuid() {
+    return generator == Generator.TIME_ORDERED ? timeOrdered() : UUID.randomUUID();
+  }
+
+  public static void use(final Generator aGenerator) {
+    generator = Objects.requireNonNull(aGenerator);
+  }
+
+  // UUIDv7, monotonic within the process: a burst inside one millisecond bumps the counter,
+  // and when it overflows the timestamp moves ahead of the clock instead of going backwards
+  public static UUID timeOrdered() {
+    final var now = System.currentTimeMillis() << COUNTER_BITS;
+
+    long last;
+    long next;
+    do {
+      last = LAST_TIMESTAMP.get();
+      next = now > last ? now : last + 1;
+    } while (!LAST_TIMESTAMP.compareAndSet(last, next));
+
+    final var mostSigBits = ((next >>> COUNTER_BITS) << 16) | VERSION_7 | (next & COUNTER_MASK);
+    final var leastSigBits =
+        (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC4122;
+
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  public enum Generator {
+    RANDOM,
+    TIME_ORDERED
+  }
+}
@@ -1,13 +1,64 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
 
 public final class InstantUtils {
+  private static final Clock DEFAULT_CLOCK = new MillisClock();
+
+  private static volatile Clock clock = DEFAULT_CLOCK;
+
   private InstantUtils() {
   }
 
   public static Instant now(){
-    return Instant.now().plusNanos(500).truncatedTo(ChronoUnit.MILLIS);
+    return clock.instant();
+  }
+
+  // any clock is truncated to milliseconds, the precision every timestamp is stored with
+  public static void use(final Clock aClock) {
+    clock = Clock.tick(Objects.requireNonNull(aClock), Duration.ofMillis(1));
+  }
+
+  public static void reset() {
+    clock = DEFAULT_CLOCK;
+  }
+
+  // reuses the same Instant for every call within a millisecond, so hot write paths only
+  // allocate once per millisecond instead of on every call
+  static final class MillisClock extends Clock {
+    private volatile Instant last = Instant.EPOCH;
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return Clock.tick(Clock.system(zone), Duration.ofMillis(1));
+    }
+
+    @Override
+    public long millis() {
+      return System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+      final var now = System.currentTimeMillis();
+      final var cached = this.last;
+      if (cached.toEpochMilli() == now) {
+        return cached;
+      }
+
+      final var next = Instant.ofEpochMilli(now);
+      this.last = next;
+      return next;
+    }
   }
 }
@@ -5,36 +5,44 @@ import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public class Notification implements ValidationHandler {
 
-  private final List<Error> errors;
+  // allocated on the first error, a valid aggregate never pays for the list
+  private List<Error> errors;
 
-  private Notification(List<Error> errors) {
-    this.errors = errors;
+  // set when the errors come from an unexpected exception rather than from a validation rule
+  private Throwable cause;
+
+  private Notification() {
   }
 
   public static Notification create() {
-    return new Notification(new ArrayList<>());
+    return new Notification();
   }
 
   public static Notification create(final Error anError) {
-    return new Notification(new ArrayList<>()).append(anError);
+    return new Notification().append(anError);
   }
 
   public static Notification create(final Throwable t) {
-    return create(new Error(t.getMessage()));
+    final var notification = create(new Error(t.getMessage()));
+    notification.cause = t;
+    return notification;
   }
 
   @Override
   public Notification append(final Error anError) {
-    this.errors.add(anError);
+    mutableErrors().add(anError);
     return this;
   }
 
   @Override
   public Notification append(final ValidationHandler aHandler) {
-    this.errors.addAll(aHandler.getErrors());
+    if (aHandler.hasErrors()) {
+      mutableErrors().addAll(aHandler.getErrors());
+    }
     return this;
   }
 
@@ -43,15 +51,29 @@ public class Notification implements ValidationHandler {
     try {
       aValidation.validate();
     } catch (final DomainException ex) {
-      this.errors.addAll(ex.getErrors());
+      mutableErrors().addAll(ex.getErrors());
     } catch (final Throwable t) {
-      this.errors.add(new Error(t.getMessage()));
+      mutableErrors().add(new Error(t.getMessage()));
+      if (this.cause == null) {
+        this.cause = t;
+      }
     }
     return this;
   }
 
   @Override
   public List<Error> getErrors() {
+    return this.errors != null ? this.errors : List.of();
+  }
+
+  public Optional<Throwable> getCause() {
+    return Optional.ofNullable(this.cause);
+  }
+
+  private List<Error> mutableErrors() {
+    if (this.errors == null) {
+      this.errors = new ArrayList<>(1);
+    }
     return this.errors;
   }
 }
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryIdTest {
+  @Test
+  public void givenACanonicalUuid_WhenCallFrom_thenKeepStringForm() {
+    final var expectedValue = UUID.randomUUID().toString();
+
+    final var actualId = CategoryId.from(expectedValue);
+
+    Assertions.assertTrue(actualId.isUuid());
+    Assertions.assertEquals(expectedValue, actualId.getValue());
+    Assertions.assertEquals(CategoryId.from(UUID.fromString(expectedValue)), actualId);
+    Assertions.assertEquals(
+        CategoryId.from(UUID.fromString(expectedValue)).hashCode(),
+        actualId.hashCode());
+  }
+
+  @Test
+  public void givenANonUuidValue_WhenCallFrom_thenKeepRawValue() {
+    final var expectedValue = "123";
+
+    final var actualId = CategoryId.from(expectedValue);
+
+    Assertions.assertFalse(actualId.isUuid());
+    Assertions.assertEquals(expectedValue, actualId.getValue());
+    Assertions.assertEquals(CategoryId.from("123"), actualId);
+  }
+
+  @Test
+  public void givenAnUppercaseUuid_WhenCallFrom_thenNormalizeToLowercase() {
+    final var expectedValue = UUID.randomUUID().toString();
+
+    final var actualId = CategoryId.from(expectedValue.toUpperCase());
+
+    Assertions.assertTrue(actualId.isUuid());
+    Assertions.assertEquals(expectedValue, actualId.getValue());
+    Assertions.assertEquals(CategoryId.from(expectedValue), actualId);
+  }
+
+  @Test
+  public void givenAUuid_WhenCallGetValueTwice_thenReturnTheSameString() {
+    final var actualId = CategoryId.from(UUID.randomUUID());
+
+    Assertions.assertSame(actualId.getValue(), actualId.getValue());
+  }
+
+  @Test
+  public void givenANullValue_WhenCallFrom_thenShouldThrow() {
+    Assertions.assertThrows(NullPointerException.class, () -> CategoryId.from((String) null));
+  }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -75,6 +76,22 @@ public class CategoryTest {
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
   }
 
+  @Test
+  public void givenAPaddedValidName_WhenCallNewCategoryAndValidate_thenShouldNotReceiveError() {
+    final var expectedName = "  Filmes  ";
+    final var expectedDescription = "A categoria mais assistida";
+    final var expectedIsActive = true;
+
+    final var actualCategory =
+        Category.newCategory(expectedName, expectedDescription, expectedIsActive);
+    final var notification = Notification.create();
+
+    actualCategory.validate(notification);
+
+    Assertions.assertFalse(notification.hasErrors());
+    Assertions.assertTrue(notification.getErrors().isEmpty());
+  }
+
   @Test
   public void givenAnInvalidNameLengthGreaterThan255_WhenCallNewCategoryAndValidate_thenShouldReceiveError() {
     final String expectedName = """
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IdUtilsTest {
+  @Test
+  public void givenTimeOrderedGenerator_WhenCallTimeOrdered_thenReturnVersion7Uuid() {
+    final var before = System.currentTimeMillis();
+
+    final var actualUuid = IdUtils.timeOrdered();
+
+    Assertions.assertEquals(7, actualUuid.version());
+    Assertions.assertEquals(2, actualUuid.variant());
+    Assertions.assertTrue((actualUuid.getMostSignificantBits() >>> 16) >= before);
+  }
+
+  @Test
+  public void givenABurstOfIds_WhenCallTimeOrdered_thenStringFormIsStrictlyIncreasing() {
+    var previous = IdUtils.timeOrdered().toString();
+
+    for (int i = 0; i < 100_000; i++) {
+      final var actual = IdUtils.timeOrdered().toString();
+      Assertions.assertTrue(actual.compareTo(previous) > 0);
+      previous = actual;
+    }
+  }
+
+  @Test
+  public void givenConcurrentCallers_WhenCallTimeOrdered_thenIdsAreUnique() throws Exception {
+    final var expectedThreads = 8;
+    final var expectedPerThread = 10_000;
+    final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+    final var executor = Executors.newFixedThreadPool(expectedThreads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < expectedThreads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < expectedPerThread; i++) {
+            ids.add(IdUtils.timeOrdered());
+          }
+        }));
+      }
+      for (final var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(expectedThreads * expectedPerThread, ids.size());
+  }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InstantUtilsTest {
+  @AfterEach
+  void resetClock() {
+    InstantUtils.reset();
+  }
+
+  @Test
+  public void givenAFixedClock_WhenCallNow_thenReturnItsInstantTruncatedToMillis() {
+    final var expectedInstant = Instant.parse("2023-02-01T10:15:30.123Z");
+    InstantUtils.use(Clock.fixed(Instant.parse("2023-02-01T10:15:30.123456789Z"), ZoneOffset.UTC));
+
+    Assertions.assertEquals(expectedInstant, InstantUtils.now());
+  }
+
+  @Test
+  public void givenTheDefaultClock_WhenCallNow_thenReturnMillisecondPrecision() {
+    final var before = System.currentTimeMillis();
+
+    final var actualInstant = InstantUtils.now();
+
+    Assertions.assertEquals(0, actualInstant.getNano() % 1_000_000);
+    Assertions.assertTrue(actualInstant.toEpochMilli() >= before);
+  }
+
+  @Test
+  public void givenAFixedClock_WhenCallNewInactiveCategory_thenStampAllDatesWithTheSameInstant() {
+    final var expectedInstant = Instant.parse("2023-02-01T10:15:30.123Z");
+    InstantUtils.use(Clock.fixed(expectedInstant, ZoneOffset.UTC));
+
+    final var actualCategory = Category.newCategory("Filmes", null, false);
+
+    Assertions.assertEquals(expectedInstant, actualCategory.getCreatedAt());
+    Assertions.assertEquals(expectedInstant, actualCategory.getUpdatedAt());
+    Assertions.assertEquals(expectedInstant, actualCategory.getDeletedAt());
+  }
+}
@@ -5,76 +5,371 @@ import static org.springframework.data.domain.Sort.Direction;
 import static org.springframework.data.domain.Sort.by;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryId;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySummaryRow;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadYourWrites;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CategoryMysqlGateway implements CategoryGateway {
+  private static final int DELETE_CHUNK_SIZE = 1000;
+  private static final int STREAM_FETCH_SIZE = 500;
+  // Connector/J streams row by row for this fetch size, without server-side cursors
+  private static final int MYSQL_ROW_STREAMING = Integer.MIN_VALUE;
+  // INNODB_FT_DEFAULT_STOPWORD, the index never stores these words
+  private static final Set<String> FULL_TEXT_STOPWORDS = Set.of(
+      "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how",
+      "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+      "when", "where", "who", "will", "with", "und", "www");
+
   private final CategoryRepository repository;
+  private final boolean fullTextSearch;
+  private final int fullTextMinTokenSize;
+  private final int streamFetchSize;
 
-  public CategoryMysqlGateway(final CategoryRepository repository) {
+  public CategoryMysqlGateway(
+      final CategoryRepository repository,
+      @Value("${category.search.full-text:false}") final boolean fullTextSearch,
+      @Value("${category.search.min-token-size:3}") final int fullTextMinTokenSize,
+      @Value("${category.export.row-streaming:false}") final boolean rowStreaming
+  ) {
     this.repository = Objects.requireNonNull(repository);
+    this.fullTextSearch = fullTextSearch;
+    this.fullTextMinTokenSize = fullTextMinTokenSize;
+    this.streamFetchSize = rowStreaming ? MYSQL_ROW_STREAMING : STREAM_FETCH_SIZE;
   }
 
   @Override
   public Category create(final Category aCategory) {
-    return save(aCategory);
+    return this.repository.save(CategoryJpaEntity.forInsert(aCategory)).toAggregate();
   }
 
   @Override
-  public void deleteById(final CategoryId anId) {
-    final var anIdValue = anId.getValue();
-    if (this.repository.existsById(anIdValue)) {
-      this.repository.deleteById(anIdValue);
-    }
+  public List<Category> createAll(final List<Category> aCategories) {
+    return saveAll(aCategories, CategoryJpaEntity::forInsert);
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    return anId.isUuid() ? this.repository.deleteOne(anId.getValue()) : 0;
+  }
+
+  // chunked so a large cleanup never builds an unbounded IN list
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    final var ids = anIds.stream()
+        .filter(CategoryId::isUuid)
+        .map(CategoryId::getValue)
+        .distinct()
+        .toList();
 
+    var deleted = 0;
+    for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+      final var to = Math.min(from + DELETE_CHUNK_SIZE, ids.size());
+      deleted += this.repository.deleteAllIn(ids.subList(from, to));
+    }
+    return deleted;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Optional<Category> findById(final CategoryId anId) {
+    // ids are stored as BINARY(16), anything that is not a UUID can't be there
+    if (!anId.isUuid()) {
+      return Optional.empty();
+    }
     return this.repository.findById(anId.getValue())
         .map(CategoryJpaEntity::toAggregate);
   }
 
+  // read-modify-write reads go to the primary, a replica row may carry an outdated version
   @Override
-  public Category update(final Category aCategory) {
-    return save(aCategory);
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return ReadYourWrites.onPrimary(() -> findById(anId));
   }
 
+  // a single conditional UPDATE, no merge SELECT; a stale version or a missing row is a conflict
   @Override
+  public Category update(final Category anUpdatedCategory) {
+    final var updated = anUpdatedCategory.getId().isUuid() && this.repository.updateIfVersion(
+        anUpdatedCategory.getId().getValue(),
+        anUpdatedCategory.getVersion(),
+        anUpdatedCategory.getName(),
+        anUpdatedCategory.getDescription(),
+        anUpdatedCategory.isActive(),
+        anUpdatedCategory.getUpdatedAt(),
+        anUpdatedCategory.getDeletedAt()) == 1;
+
+    if (!updated) {
+      throw DomainException.with(new Error(
+          "Category with ID %s was modified or removed concurrently"
+              .formatted(anUpdatedCategory.getId().getValue())));
+    }
+    return Category.with(anUpdatedCategory, anUpdatedCategory.getVersion() + 1);
+  }
+
+  // the same conditional UPDATE per category, in one transaction so a conflict on any of them
+  // rolls back the others
+  @Override
+  @Transactional
+  public List<Category> updateAll(final List<Category> aCategories) {
+    return aCategories.stream()
+        .map(this::update)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-    final var page = PageRequest.of(
+    final var query = withSortField(aQuery);
+    return search(
+        query,
+        this.repository::findSlice,
+        CategoryJpaEntity::toAggregate,
+        anEntity -> Cursor.with(
+            query.sort(), sortKeyOf(anEntity, query.sort()), anEntity.getId()));
+  }
+
+  // listing only needs six columns, so rows skip the persistence context and the aggregate
+  @Override
+  @Transactional(readOnly = true)
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    final var query = withSortField(aQuery);
+    return search(
+        query,
+        (where, page) -> this.repository.findSummarySlice(where, page, query.sort()),
+        CategorySummaryRow::toSummary,
+        aRow -> Cursor.with(query.sort(), keyOf(aRow.sortKey()), aRow.id()));
+  }
+
+  // rows are streamed straight from a forward-only cursor, nothing is paged or collected
+  @Override
+  @Transactional(readOnly = true)
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    final var query = withSortField(aQuery);
+    final var direction = Direction.fromString(query.direction());
+    final var sort = by(direction, query.sort()).and(by(direction, "id"));
+
+    this.repository.forEach(
+        filterBy(query, fullTextTerms(query)),
+        sort,
+        this.streamFetchSize,
+        anEntity -> anAction.accept(anEntity.toAggregate()));
+  }
+
+  private <R, T> Pagination<T> search(
+      final CategorySearchQuery aQuery,
+      final BiFunction<Specification<CategoryJpaEntity>, Pageable, Slice<R>> aFinder,
+      final Function<R, T> toItem,
+      final Function<R, Cursor> toCursor
+  ) {
+    final var direction = Direction.fromString(aQuery.direction());
+    final var sort = by(direction, aQuery.sort()).and(by(direction, "id"));
+
+    final var fullTextTerms = fullTextTerms(aQuery);
+    final var specifications = filterBy(aQuery, fullTextTerms);
+
+    final var aCursor = Optional.ofNullable(aQuery.after())
+        .filter(str -> !str.isBlank())
+        .map(Cursor::decode);
+
+    // the seek predicate always starts at offset 0, so deep pages cost the same as the first one;
+    // relevance ranking only applies to offset pages since a cursor follows the requested sort
+    final var ranked = aCursor.isEmpty() && fullTextTerms.isPresent();
+    final var where = aCursor
+        .map(it -> Specification.where(specifications).and(seek(aQuery, it)))
+        .orElseGet(() -> fullTextTerms
+            .filter(str -> ranked)
+            .map(str -> Specification.where(specifications)
+                .and(SpecificationUtils.byRelevance("name", "description", str)))
+            .orElse(specifications));
+    final var page = aCursor.isPresent()
+        ? PageRequest.of(0, aQuery.perPage(), sort)
+        : PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
+    final var sliceResult = aFinder.apply(where, page);
+    final var content = sliceResult.getContent();
+
+    return new Pagination<>(
         aQuery.page(),
         aQuery.perPage(),
-        by(Direction.fromString(aQuery.direction()), aQuery.sort()));
+        total(aQuery, specifications, sliceResult, aCursor.isEmpty()),
+        content.stream().map(toItem).toList(),
+        sliceResult.hasNext(),
+        nextCursor(sliceResult, toCursor, ranked));
+  }
 
-    final var specifications = Optional.ofNullable(aQuery.terms())
-        .filter(str -> !str.isBlank())
+  // a ranked page is not in (sort, id) order, so seeking from its last row would skip or repeat
+  // rows; those pages are followed by page number instead
+  private static <R> String nextCursor(
+      final Slice<R> aSlice,
+      final Function<R, Cursor> toCursor,
+      final boolean ranked
+  ) {
+    if (ranked || !aSlice.hasNext()) {
+      return null;
+    }
+    final var content = aSlice.getContent();
+    return toCursor.apply(content.get(content.size() - 1)).encode();
+  }
+
+  // unknown sort keys are rejected instead of being turned into an unindexed ORDER BY
+  private static CategorySearchQuery withSortField(final CategorySearchQuery aQuery) {
+    return aQuery.withSort(CategorySortField.from(aQuery.sort()).property());
+  }
+
+  private Optional<String> fullTextTerms(final CategorySearchQuery aQuery) {
+    return Optional.ofNullable(aQuery.terms())
+        .filter(str -> this.fullTextSearch && !str.isBlank())
+        .map(this::toBooleanQuery)
+        .filter(str -> !str.isEmpty());
+  }
+
+  private static Specification<CategoryJpaEntity> filterBy(
+      final CategorySearchQuery aQuery,
+      final Optional<String> fullTextTerms
+  ) {
+    final var terms = Optional.ofNullable(aQuery.terms())
+        .filter(str -> !str.isBlank());
+
+    final var byTerms = fullTextTerms
         .map(str -> SpecificationUtils
+            .<CategoryJpaEntity>fullText("name", "description", str))
+        .or(() -> terms.map(str -> SpecificationUtils
             .<CategoryJpaEntity>like("name", str)
             .or(like("description", str))
-        )
+        ))
         .orElse(null);
 
-    final var pageResult = this.repository.findAll(specifications, page);
+    return Specification.where(byTerms).and(byFilter(aQuery.filter()));
+  }
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(CategoryJpaEntity::toAggregate).toList());
+  // active first, so "active only, newest first" is a range scan on (active, created_at, id)
+  private static Specification<CategoryJpaEntity> byFilter(final CategoryFilter aFilter) {
+    if (aFilter.isEmpty()) {
+      return null;
+    }
+
+    final Specification<CategoryJpaEntity> byActive = aFilter.active() == null
+        ? null
+        : SpecificationUtils.equal("active", aFilter.active());
+
+    return Specification.where(byActive)
+        .and(SpecificationUtils.within("createdAt", aFilter.createdFrom(), aFilter.createdTo()))
+        .and(SpecificationUtils.within("updatedAt", aFilter.updatedFrom(), aFilter.updatedTo()));
+  }
+
+  private long total(
+      final CategorySearchQuery aQuery,
+      final Specification<CategoryJpaEntity> specifications,
+      final Slice<?> aSlice,
+      final boolean isOffsetPage
+  ) {
+    if (!aQuery.includeTotal()) {
+      return Pagination.UNKNOWN_TOTAL;
+    }
+
+    // the last offset page already tells the total, no need to count it again
+    if (isOffsetPage && !aSlice.hasNext() && (aSlice.hasContent() || aSlice.getNumber() == 0)) {
+      return aSlice.getPageable().getOffset() + aSlice.getNumberOfElements();
+    }
+    return this.repository.count(specifications);
+  }
+
+  private static Specification<CategoryJpaEntity> seek(
+      final CategorySearchQuery aQuery,
+      final Cursor aCursor
+  ) {
+    if (!aCursor.sort().equals(aQuery.sort())) {
+      throw DomainException.with(new Error(
+          "Pagination cursor was issued for sort '%s'".formatted(aCursor.sort())));
+    }
+
+    if (!CategoryId.from(aCursor.id()).isUuid()) {
+      throw DomainException.with(new Error(
+          "Invalid pagination cursor '%s'".formatted(aQuery.after())));
+    }
+
+    return SpecificationUtils.seek(
+        aQuery.sort(),
+        CategorySortField.from(aQuery.sort()).parseKey(aCursor.key(), aQuery.after()),
+        aCursor.id(),
+        Direction.fromString(aQuery.direction()).isAscending());
+  }
+
+  // the index drops words shorter than innodb_ft_min_token_size and stopwords, so a required
+  // "+ab*" would match nothing; any such term returns an empty query and the search uses LIKE
+  private String toBooleanQuery(final String terms) {
+    final var words = Arrays.stream(terms.trim().split("\\s+"))
+        .map(str -> str.replaceAll("[+\\-<>()~*\"@]", ""))
+        .filter(str -> !str.isBlank())
+        .toList();
+
+    final var indexable = words.stream().allMatch(str ->
+        str.codePointCount(0, str.length()) >= this.fullTextMinTokenSize
+            && !FULL_TEXT_STOPWORDS.contains(str.toLowerCase(Locale.ROOT)));
+    if (!indexable) {
+      return "";
+    }
+
+    return words.stream()
+        .map(str -> "+" + str + "*")
+        .collect(Collectors.joining(" "));
   }
 
-  private Category save(final Category aCategory) {
-    return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+  private static String sortKeyOf(final CategoryJpaEntity anEntity, final String aSort) {
+    return keyOf(PropertyAccessorFactory.forBeanPropertyAccess(anEntity).getPropertyValue(aSort));
+  }
+
+  // a null sort value stays null in the cursor, String.valueOf would turn it into "null"
+  private static String keyOf(final Object aValue) {
+    return aValue == null ? null : aValue.toString();
+  }
+
+  // a single transaction, so hibernate.jdbc.batch_size groups the statements into JDBC batches
+  private List<Category> saveAll(
+      final List<Category> aCategories,
+      final Function<Category, CategoryJpaEntity> toEntity
+  ) {
+    if (aCategories.isEmpty()) {
+      return List.of();
+    }
+
+    final var entities = aCategories.stream()
+        .map(toEntity)
+        .toList();
+
+    return this.repository.saveAll(entities).stream()
+        .map(CategoryJpaEntity::toAggregate)
+        .toList();
   }
 }
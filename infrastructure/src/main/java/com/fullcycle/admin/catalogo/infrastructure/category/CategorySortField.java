@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// every field here has a (column, id) index, see V5__Category_sort_indexes.sql;
+// sorting by anything else would be a filesort over the whole table
+public enum CategorySortField {
+  NAME("name", "name", key -> key),
+  CREATED_AT("createdAt", "created_at", Instant::parse),
+  UPDATED_AT("updatedAt", "updated_at", Instant::parse);
+
+  public static final CategorySortField DEFAULT = CREATED_AT;
+
+  private final String property;
+  private final String column;
+  private final Function<String, Comparable<?>> keyParser;
+
+  CategorySortField(
+      final String property,
+      final String column,
+      final Function<String, Comparable<?>> keyParser
+  ) {
+    this.property = property;
+    this.column = column;
+    this.keyParser = keyParser;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  // a cursor key comes back from the client, so a tampered one is an invalid cursor, not a 500
+  public Comparable<?> parseKey(final String aKey, final String aCursor) {
+    if (aKey == null) {
+      return null;
+    }
+    try {
+      return keyParser.apply(aKey);
+    } catch (final DateTimeParseException e) {
+      throw DomainException.with(new Error(
+          "Invalid pagination cursor '%s'".formatted(aCursor)));
+    }
+  }
+
+  // accepts the entity property or the column name, in any case
+  public static Optional<CategorySortField> find(final String aSort) {
+    if (aSort == null || aSort.isBlank()) {
+      return Optional.of(DEFAULT);
+    }
+
+    final var normalized = aSort.trim().toLowerCase(Locale.ROOT);
+    return Arrays.stream(values())
+        .filter(it -> it.property.toLowerCase(Locale.ROOT).equals(normalized)
+            || it.column.equals(normalized))
+        .findFirst();
+  }
+
+  public static CategorySortField from(final String aSort) {
+    return find(aSort).orElseThrow(() -> DomainException.with(new Error(
+        "Categories cannot be sorted by '%s', expected one of %s".formatted(
+            aSort,
+            Arrays.stream(values())
+                .map(CategorySortField::property)
+                .collect(Collectors.joining(", "))))));
+  }
+}
@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadYourWrites;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache for findById, local to each instance. Writes made through this instance
+ * evict their entry; writes made on any other instance are not seen, so a cached category can be
+ * stale for up to the cache time-to-live ({@code category.cache.time-to-live}, 5s by default).
+ * Cache hits skip the routing datasource as well, so a client's read-your-writes window does not
+ * apply to them. Only enable it where that bound is acceptable.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+  private final CategoryGateway delegate;
+  private final Cache<CategoryId, Category> cache;
+
+  public CachingCategoryGateway(
+      final CategoryGateway delegate,
+      final Cache<CategoryId, Category> cache
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  public static Cache<CategoryId, Category> newCache(
+      final long maximumSize,
+      final Duration timeToLive
+  ) {
+    return newCache(maximumSize, timeToLive, Ticker.systemTicker());
+  }
+
+  public static Cache<CategoryId, Category> newCache(
+      final long maximumSize,
+      final Duration timeToLive,
+      final Ticker ticker
+  ) {
+    return Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    return this.delegate.create(aCategory);
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    return this.delegate.createAll(aCategories);
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    try {
+      return this.delegate.deleteById(anId);
+    } finally {
+      this.cache.invalidate(anId);
+    }
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    try {
+      return this.delegate.deleteAllById(anIds);
+    } finally {
+      this.cache.invalidateAll(anIds);
+    }
+  }
+
+  // entries are private snapshots, callers always get their own copy to mutate; misses load from
+  // the primary, a lagging replica row would otherwise be served for the whole time to live
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    final var aSnapshot = this.cache.get(anId, id -> ReadYourWrites
+        .onPrimary(() -> this.delegate.findById(id))
+        .map(Category::with)
+        .orElse(null));
+
+    return Optional.ofNullable(aSnapshot).map(Category::with);
+  }
+
+  // never served from the cache, an update must start from the stored version
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return this.delegate.findLatestById(anId);
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    try {
+      return this.delegate.update(aCategory);
+    } finally {
+      this.cache.invalidate(aCategory.getId());
+    }
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    try {
+      return this.delegate.updateAll(aCategories);
+    } finally {
+      this.cache.invalidateAll(aCategories.stream().map(Category::getId).toList());
+    }
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    return this.delegate.findAll(aQuery);
+  }
+
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    return this.delegate.findAllSummaries(aQuery);
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    this.delegate.streamAll(aQuery, anAction);
+  }
+
+  public CacheStats stats() {
+    return this.cache.stats();
+  }
+}
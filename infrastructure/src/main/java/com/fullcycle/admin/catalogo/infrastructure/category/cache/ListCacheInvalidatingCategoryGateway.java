@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cache;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesCache;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class ListCacheInvalidatingCategoryGateway implements CategoryGateway {
+  private final CategoryGateway delegate;
+  private final ListCategoriesCache listCache;
+
+  public ListCacheInvalidatingCategoryGateway(
+      final CategoryGateway delegate,
+      final ListCategoriesCache listCache
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.listCache = Objects.requireNonNull(listCache);
+  }
+
+  // the generation only moves once the write returned, so no page read before it gets cached as current
+  @Override
+  public Category create(final Category aCategory) {
+    try {
+      return this.delegate.create(aCategory);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    try {
+      return this.delegate.createAll(aCategories);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    try {
+      return this.delegate.deleteById(anId);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    try {
+      return this.delegate.deleteAllById(anIds);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    return this.delegate.findById(anId);
+  }
+
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return this.delegate.findLatestById(anId);
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    try {
+      return this.delegate.update(aCategory);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    try {
+      return this.delegate.updateAll(aCategories);
+    } finally {
+      this.listCache.invalidate();
+    }
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    return this.delegate.findAll(aQuery);
+  }
+
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    return this.delegate.findAllSummaries(aQuery);
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    this.delegate.streamAll(aQuery, anAction);
+  }
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fullcycle.admin.catalogo.application.category.export.RecordWriter;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+// RFC 4180 with a header row, fields are quoted only when they have to be
+final class CsvRecordWriter implements RecordWriter {
+  private static final String HEADER =
+      "id,name,description,is_active,created_at,updated_at,deleted_at\n";
+
+  private final Writer out;
+
+  CsvRecordWriter(final Writer out) throws IOException {
+    this.out = out;
+    this.out.write(HEADER);
+  }
+
+  @Override
+  public void write(final Category aCategory) throws IOException {
+    field(aCategory.getId().getValue());
+    this.out.write(',');
+    field(aCategory.getName());
+    this.out.write(',');
+    field(aCategory.getDescription());
+    this.out.write(',');
+    this.out.write(aCategory.isActive() ? "true" : "false");
+    this.out.write(',');
+    field(aCategory.getCreatedAt());
+    this.out.write(',');
+    field(aCategory.getUpdatedAt());
+    this.out.write(',');
+    field(aCategory.getDeletedAt());
+    this.out.write('\n');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    this.out.flush();
+  }
+
+  private void field(final Instant anInstant) throws IOException {
+    if (anInstant != null) {
+      this.out.write(anInstant.toString());
+    }
+  }
+
+  private void field(final String aValue) throws IOException {
+    if (aValue == null) {
+      return;
+    }
+
+    final var needsQuotes = aValue.indexOf(',') >= 0
+        || aValue.indexOf('"') >= 0
+        || aValue.indexOf('\n') >= 0
+        || aValue.indexOf('\r') >= 0;
+
+    if (!needsQuotes) {
+      this.out.write(aValue);
+      return;
+    }
+
+    this.out.write('"');
+    this.out.write(aValue.replace("\"", "\"\""));
+    this.out.write('"');
+  }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fullcycle.admin.catalogo.application.category.export.RecordWriter;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import java.io.IOException;
+import java.time.Instant;
+
+// one object per line, the shape the NDJSON import reads back
+final class NdjsonRecordWriter implements RecordWriter {
+  private final JsonGenerator generator;
+
+  NdjsonRecordWriter(final JsonGenerator generator) {
+    this.generator = generator;
+    this.generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  public void write(final Category aCategory) throws IOException {
+    this.generator.writeStartObject();
+    this.generator.writeStringField("id", aCategory.getId().getValue());
+    this.generator.writeStringField("name", aCategory.getName());
+    this.generator.writeStringField("description", aCategory.getDescription());
+    this.generator.writeBooleanField("is_active", aCategory.isActive());
+    writeInstant("created_at", aCategory.getCreatedAt());
+    writeInstant("updated_at", aCategory.getUpdatedAt());
+    writeInstant("deleted_at", aCategory.getDeletedAt());
+    this.generator.writeEndObject();
+    this.generator.writeRaw('\n');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    this.generator.flush();
+  }
+
+  private void writeInstant(final String aField, final Instant anInstant) throws IOException {
+    this.generator.writeStringField(aField, anInstant != null ? anInstant.toString() : null);
+  }
+}
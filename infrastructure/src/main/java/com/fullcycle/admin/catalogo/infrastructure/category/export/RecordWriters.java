@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.export.ExportFormat;
+import com.fullcycle.admin.catalogo.application.category.export.RecordWriter;
+import com.fullcycle.admin.catalogo.application.category.export.RecordWriterFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class RecordWriters implements RecordWriterFactory {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final JsonFactory jsonFactory;
+
+  public RecordWriters(final ObjectMapper objectMapper) {
+    this.jsonFactory = Objects.requireNonNull(objectMapper).getFactory();
+  }
+
+  @Override
+  public RecordWriter open(final ExportFormat aFormat, final OutputStream anOutput)
+      throws IOException {
+    final var out = new BufferedWriter(
+        new OutputStreamWriter(anOutput, StandardCharsets.UTF_8),
+        BUFFER_SIZE);
+    return switch (aFormat) {
+      case NDJSON -> new NdjsonRecordWriter(this.jsonFactory.createGenerator(out)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+      case CSV -> new CsvRecordWriter(out);
+    };
+  }
+}
@@ -0,0 +1,177 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.importing.RecordReaders.MAX_RECORD_LENGTH;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.importing.ParsedLine;
+import com.fullcycle.admin.catalogo.application.category.importing.RecordReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 records with a header row, quoted fields may span several lines; hand-rolled rather
+// than jackson-dataformat-csv so a malformed record is skipped and the rest of the file still read
+final class CsvRecordReader implements RecordReader {
+  static final int MAX_FIELD_LENGTH = 16 * 1024;
+
+  private final BufferedReader reader;
+  private long line = 1;
+  private boolean headerRead;
+  private boolean exhausted;
+  private int nameColumn = -1;
+  private int descriptionColumn = -1;
+  private int activeColumn = -1;
+  private int recordLength;
+  private String recordError;
+
+  CsvRecordReader(final BufferedReader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public ParsedLine next() throws IOException {
+    if (this.exhausted) {
+      return null;
+    }
+
+    if (!this.headerRead) {
+      this.headerRead = true;
+      final List<String> header;
+      try {
+        header = readRecord();
+      } catch (final IllegalArgumentException ex) {
+        this.exhausted = true;
+        return ParsedLine.invalid(1, ex.getMessage());
+      }
+      if (header == null) {
+        this.exhausted = true;
+        return null;
+      }
+      for (int i = 0; i < header.size(); i++) {
+        switch (header.get(i).trim()) {
+          case "name" -> this.nameColumn = i;
+          case "description" -> this.descriptionColumn = i;
+          case "is_active" -> this.activeColumn = i;
+          default -> {
+          }
+        }
+      }
+      if (this.nameColumn < 0) {
+        this.exhausted = true;
+        return ParsedLine.invalid(1, "'name' column is missing from the CSV header");
+      }
+    }
+
+    List<String> fields;
+    long recordLine;
+    do {
+      recordLine = this.line;
+      try {
+        fields = readRecord();
+      } catch (final IllegalArgumentException ex) {
+        return ParsedLine.invalid(recordLine, ex.getMessage());
+      }
+      if (fields == null) {
+        this.exhausted = true;
+        return null;
+      }
+    } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+    try {
+      final var aDescription = column(fields, this.descriptionColumn);
+      return ParsedLine.of(recordLine, CreateCategoryCommand.with(
+          column(fields, this.nameColumn),
+          aDescription == null || aDescription.isEmpty() ? null : aDescription,
+          RecordReaders.parseActive(column(fields, this.activeColumn))));
+    } catch (final IllegalArgumentException ex) {
+      return ParsedLine.invalid(recordLine, ex.getMessage());
+    }
+  }
+
+  private static String column(final List<String> fields, final int anIndex) {
+    return anIndex >= 0 && anIndex < fields.size() ? fields.get(anIndex) : null;
+  }
+
+  // a malformed record is consumed up to its end and then reported, so the next one starts clean
+  private List<String> readRecord() throws IOException {
+    int c = this.reader.read();
+    if (c < 0) {
+      return null;
+    }
+
+    final var fields = new ArrayList<String>();
+    final var field = new StringBuilder();
+    var quoted = false;
+    this.recordLength = 0;
+    this.recordError = null;
+
+    while (true) {
+      if (c >= 0 && ++this.recordLength > MAX_RECORD_LENGTH && this.recordError == null) {
+        this.recordError = "record is longer than %d characters".formatted(MAX_RECORD_LENGTH);
+      }
+
+      if (quoted) {
+        if (c < 0) {
+          throw new IllegalArgumentException("unterminated quoted field");
+        }
+        if (c == '"') {
+          this.reader.mark(1);
+          final var next = this.reader.read();
+          if (next == '"') {
+            append(field, '"');
+          } else {
+            quoted = false;
+            if (next >= 0) {
+              this.reader.reset();
+            }
+          }
+        } else {
+          if (c == '\n') {
+            this.line++;
+          }
+          append(field, (char) c);
+        }
+      } else if (c < 0 || c == '\n') {
+        this.line++;
+        return endRecord(fields, field);
+      } else if (c == '\r') {
+        this.reader.mark(1);
+        if (this.reader.read() != '\n') {
+          this.reader.reset();
+        }
+        this.line++;
+        return endRecord(fields, field);
+      } else if (c == ',') {
+        if (this.recordError == null) {
+          fields.add(field.toString());
+        }
+        field.setLength(0);
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else {
+        append(field, (char) c);
+      }
+      c = this.reader.read();
+    }
+  }
+
+  private void append(final StringBuilder field, final char c) {
+    if (this.recordError != null) {
+      return;
+    }
+    if (field.length() >= MAX_FIELD_LENGTH) {
+      this.recordError = "field is longer than %d characters".formatted(MAX_FIELD_LENGTH);
+      return;
+    }
+    field.append(c);
+  }
+
+  private List<String> endRecord(final List<String> fields, final StringBuilder field) {
+    if (this.recordError != null) {
+      throw new IllegalArgumentException(this.recordError);
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.importing.RecordReaders.MAX_RECORD_LENGTH;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.importing.ParsedLine;
+import com.fullcycle.admin.catalogo.application.category.importing.RecordReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// one JSON object per line, the same shape the NDJSON export writes. Lines are split here and
+// each one parsed on its own: a MappingIterator over the stream cannot resume after a malformed
+// line, and would buffer an endless one
+final class NdjsonRecordReader implements RecordReader {
+  private final BufferedReader reader;
+  private final ObjectReader jsonReader;
+  private long line;
+  private boolean lineTooLong;
+
+  NdjsonRecordReader(final BufferedReader reader, final ObjectReader jsonReader) {
+    this.reader = reader;
+    this.jsonReader = jsonReader;
+  }
+
+  @Override
+  public ParsedLine next() throws IOException {
+    String text;
+    do {
+      text = readLine();
+      if (text == null) {
+        return null;
+      }
+      this.line++;
+      if (this.lineTooLong) {
+        return ParsedLine.invalid(this.line,
+            "line is longer than %d characters".formatted(MAX_RECORD_LENGTH));
+      }
+    } while (text.isBlank());
+
+    try {
+      final var fields = this.jsonReader.readTree(text);
+      if (!fields.isObject()) {
+        return ParsedLine.invalid(this.line, "Malformed JSON: expected an object");
+      }
+      return ParsedLine.of(this.line, CreateCategoryCommand.with(
+          string(fields, "name"),
+          string(fields, "description"),
+          active(fields)));
+    } catch (final JsonProcessingException ex) {
+      return ParsedLine.invalid(this.line, "Malformed JSON at column %d: %s".formatted(
+          ex.getLocation() != null ? ex.getLocation().getColumnNr() : 0,
+          ex.getOriginalMessage()));
+    } catch (final IllegalArgumentException ex) {
+      return ParsedLine.invalid(this.line, ex.getMessage());
+    }
+  }
+
+  // BufferedReader.readLine would buffer a line of any length, this one stops at the cap
+  private String readLine() throws IOException {
+    int c = this.reader.read();
+    if (c < 0) {
+      return null;
+    }
+
+    final var text = new StringBuilder();
+    this.lineTooLong = false;
+    while (c >= 0 && c != '\n') {
+      if (text.length() < MAX_RECORD_LENGTH) {
+        text.append((char) c);
+      } else {
+        this.lineTooLong = true;
+      }
+      c = this.reader.read();
+    }
+
+    final var end = text.length();
+    if (end > 0 && text.charAt(end - 1) == '\r') {
+      text.setLength(end - 1);
+    }
+    return text.toString();
+  }
+
+  private static String string(final JsonNode fields, final String aKey) {
+    final var value = fields.get(aKey);
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    if (!value.isTextual()) {
+      throw new IllegalArgumentException("'%s' should be a string".formatted(aKey));
+    }
+    return value.textValue();
+  }
+
+  private static boolean active(final JsonNode fields) {
+    final var value = fields.get("is_active");
+    if (value == null || value.isNull()) {
+      return true;
+    }
+    if (value.isBoolean()) {
+      return value.booleanValue();
+    }
+    throw new IllegalArgumentException("'is_active' should be true or false");
+  }
+}
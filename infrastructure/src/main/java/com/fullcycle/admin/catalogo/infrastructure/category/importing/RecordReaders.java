@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportFormat;
+import com.fullcycle.admin.catalogo.application.category.importing.RecordReader;
+import com.fullcycle.admin.catalogo.application.category.importing.RecordReaderFactory;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class RecordReaders implements RecordReaderFactory {
+  // far above any valid category, it only bounds what a malformed file can make us buffer
+  static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+  private final ObjectReader jsonReader;
+
+  public RecordReaders(final ObjectMapper objectMapper) {
+    this.jsonReader = Objects.requireNonNull(objectMapper).reader()
+        .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+  }
+
+  @Override
+  public RecordReader open(final ImportFormat aFormat, final InputStream anInput) {
+    final var aReader =
+        new BufferedReader(new InputStreamReader(anInput, StandardCharsets.UTF_8));
+    return switch (aFormat) {
+      case NDJSON -> new NdjsonRecordReader(aReader, this.jsonReader);
+      case CSV -> new CsvRecordReader(aReader);
+    };
+  }
+
+  static boolean parseActive(final String aValue) {
+    if (aValue == null || aValue.isBlank()) {
+      return true;
+    }
+    if ("true".equalsIgnoreCase(aValue.trim())) {
+      return true;
+    }
+    if ("false".equalsIgnoreCase(aValue.trim())) {
+      return false;
+    }
+    throw new IllegalArgumentException("'is_active' should be true or false");
+  }
+}
@@ -0,0 +1,161 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.limit;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// caps in-flight gateway calls at the connection pool size, so callers queue here
+// (cheaply, when they are virtual threads) instead of inside the pool. With a replica, reads
+// it serves are capped at its own pool size and everything else at the primary's
+public class ConcurrencyLimitingCategoryGateway implements CategoryGateway {
+  private final CategoryGateway delegate;
+  private final Semaphore primaryPermits;
+  private final Semaphore replicaPermits;
+  private final BooleanSupplier readsOnPrimary;
+  private final long acquireTimeoutNanos;
+
+  public ConcurrencyLimitingCategoryGateway(
+      final CategoryGateway delegate,
+      final int maxConcurrency,
+      final Duration acquireTimeout
+  ) {
+    this(delegate, newPermits(maxConcurrency), null, () -> true, acquireTimeout);
+  }
+
+  public ConcurrencyLimitingCategoryGateway(
+      final CategoryGateway delegate,
+      final int maxPrimaryConcurrency,
+      final int maxReplicaConcurrency,
+      final BooleanSupplier readsOnPrimary,
+      final Duration acquireTimeout
+  ) {
+    this(
+        delegate,
+        newPermits(maxPrimaryConcurrency),
+        newPermits(maxReplicaConcurrency),
+        readsOnPrimary,
+        acquireTimeout);
+  }
+
+  private ConcurrencyLimitingCategoryGateway(
+      final CategoryGateway delegate,
+      final Semaphore primaryPermits,
+      final Semaphore replicaPermits,
+      final BooleanSupplier readsOnPrimary,
+      final Duration acquireTimeout
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.primaryPermits = primaryPermits;
+    this.replicaPermits = replicaPermits == null ? primaryPermits : replicaPermits;
+    this.readsOnPrimary = Objects.requireNonNull(readsOnPrimary);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    return limited(this.primaryPermits, () -> this.delegate.create(aCategory));
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    return limited(this.primaryPermits, () -> this.delegate.createAll(aCategories));
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    return limited(this.primaryPermits, () -> this.delegate.deleteById(anId));
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    return limited(this.primaryPermits, () -> this.delegate.deleteAllById(anIds));
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    return limited(reads(), () -> this.delegate.findById(anId));
+  }
+
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return limited(this.primaryPermits, () -> this.delegate.findLatestById(anId));
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    return limited(this.primaryPermits, () -> this.delegate.update(aCategory));
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    return limited(this.primaryPermits, () -> this.delegate.updateAll(aCategories));
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    return limited(reads(), () -> this.delegate.findAll(aQuery));
+  }
+
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    return limited(reads(), () -> this.delegate.findAllSummaries(aQuery));
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    limited(reads(), () -> {
+      this.delegate.streamAll(aQuery, anAction);
+      return null;
+    });
+  }
+
+  public int availablePermits() {
+    return this.primaryPermits.availablePermits();
+  }
+
+  public int availableReplicaPermits() {
+    return this.replicaPermits.availablePermits();
+  }
+
+  private static Semaphore newPermits(final int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("'maxConcurrency' must be greater than zero");
+    }
+    return new Semaphore(maxConcurrency, true);
+  }
+
+  // read-only calls go to the replica unless the caller's reads are pinned to the primary
+  private Semaphore reads() {
+    return this.readsOnPrimary.getAsBoolean() ? this.primaryPermits : this.replicaPermits;
+  }
+
+  private <T> T limited(final Semaphore permits, final Supplier<T> aCall) {
+    try {
+      if (!permits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new IllegalStateException("Timed out waiting for a category gateway permit");
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for a category gateway permit", ex);
+    }
+
+    try {
+      return aCall.get();
+    } finally {
+      permits.release();
+    }
+  }
+}
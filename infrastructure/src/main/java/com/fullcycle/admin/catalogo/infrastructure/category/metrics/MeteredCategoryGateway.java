@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.metrics;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// sits right on top of the database gateway, so its timings are the time spent in the
+// database and whatever is layered above it shows up as the gap to the use case timings
+public class MeteredCategoryGateway implements CategoryGateway {
+  static final String TIMER = "category.gateway";
+  static final String ROWS = "category.gateway.rows";
+
+  private final CategoryGateway delegate;
+  private final MeterRegistry registry;
+
+  public MeteredCategoryGateway(final CategoryGateway delegate, final MeterRegistry registry) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.registry = Objects.requireNonNull(registry);
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    return timed("create", () -> this.delegate.create(aCategory));
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    return timed("createAll", () -> this.delegate.createAll(aCategories));
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    return timed("deleteById", () -> this.delegate.deleteById(anId));
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    return timed("deleteAllById", () -> this.delegate.deleteAllById(anIds));
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    return timed("findById", () -> this.delegate.findById(anId));
+  }
+
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return timed("findLatestById", () -> this.delegate.findLatestById(anId));
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    return timed("update", () -> this.delegate.update(aCategory));
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    return timed("updateAll", () -> this.delegate.updateAll(aCategories));
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    final var aPage = timed("findAll", () -> this.delegate.findAll(aQuery));
+    recordRows("findAll", aPage.items().size());
+    return aPage;
+  }
+
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    final var aPage = timed("findAllSummaries", () -> this.delegate.findAllSummaries(aQuery));
+    recordRows("findAllSummaries", aPage.items().size());
+    return aPage;
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    final var streamed = new AtomicLong();
+    try {
+      timed("streamAll", () -> {
+        this.delegate.streamAll(aQuery, aCategory -> {
+          streamed.incrementAndGet();
+          anAction.accept(aCategory);
+        });
+        return null;
+      });
+    } finally {
+      recordRows("streamAll", streamed.get());
+    }
+  }
+
+  private <T> T timed(final String aMethod, final Supplier<T> aCall) {
+    final var sample = Timer.start(this.registry);
+    var exception = "none";
+    try {
+      return aCall.get();
+    } catch (final RuntimeException ex) {
+      exception = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      sample.stop(Timer.builder(TIMER)
+          .tag("method", aMethod)
+          .tag("outcome", "none".equals(exception) ? "success" : "exception")
+          .tag("exception", exception)
+          .register(this.registry));
+    }
+  }
+
+  private void recordRows(final String aMethod, final long aCount) {
+    DistributionSummary.builder(ROWS)
+        .tag("method", aMethod)
+        .register(this.registry)
+        .record(aCount);
+  }
+}
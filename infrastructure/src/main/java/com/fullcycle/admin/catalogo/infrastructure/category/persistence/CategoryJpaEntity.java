@@ -3,16 +3,24 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryId;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import java.time.Instant;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
   @Id
+  @Convert(converter = UuidBinaryConverter.class)
+  @Column(name = "id", columnDefinition = "BINARY(16)")
   private String id;
 
   @Column(name = "name", nullable = false)
@@ -33,6 +41,13 @@ public class CategoryJpaEntity {
   @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
   private Instant deletedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  @Transient
+  private boolean isNew;
+
   public CategoryJpaEntity() {
   }
 
@@ -42,7 +57,8 @@ public class CategoryJpaEntity {
                             final boolean active,
                             final Instant createdAt,
                             final Instant updatedAt,
-                            final Instant deletedAt) {
+                            final Instant deletedAt,
+                            final long version) {
     this.id = id;
     this.name = name;
     this.description = description;
@@ -50,6 +66,7 @@ public class CategoryJpaEntity {
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
     this.deletedAt = deletedAt;
+    this.version = version;
   }
 
   public static CategoryJpaEntity from(final Category aCategory) {
@@ -60,10 +77,18 @@ public class CategoryJpaEntity {
         aCategory.isActive(),
         aCategory.getCreatedAt(),
         aCategory.getUpdatedAt(),
-        aCategory.getDeletedAt()
+        aCategory.getDeletedAt(),
+        aCategory.getVersion()
     );
   }
 
+  // ids are assigned by the domain, so save() can only tell an insert apart when told so
+  public static CategoryJpaEntity forInsert(final Category aCategory) {
+    final var anEntity = from(aCategory);
+    anEntity.isNew = true;
+    return anEntity;
+  }
+
   public Category toAggregate() {
     return Category.with(
         CategoryId.from(getId()),
@@ -72,10 +97,23 @@ public class CategoryJpaEntity {
         isActive(),
         getCreatedAt(),
         getUpdatedAt(),
-        getDeletedAt()
+        getDeletedAt(),
+        getVersion()
     );
   }
 
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  @Override
   public String getId() {
     return id;
   }
@@ -131,4 +169,12 @@ public class CategoryJpaEntity {
   public void setDeletedAt(final Instant deletedAt) {
     this.deletedAt = deletedAt;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(final long version) {
+    this.version = version;
+  }
 }
@@ -1,11 +1,50 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.time.Instant;
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository
+    extends JpaRepository<CategoryJpaEntity, String>, CustomCategoryRepository {
 
-  Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+  long count(Specification<CategoryJpaEntity> whereClause);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from CategoryJpaEntity c where c.id = :id")
+  int deleteOne(@Param("id") String anId);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from CategoryJpaEntity c where c.id in :ids")
+  int deleteAllIn(@Param("ids") Collection<String> anIds);
+
+  // id and created_at never change after insert, so only the mutable columns are written
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update CategoryJpaEntity c
+         set c.name = :name,
+             c.description = :description,
+             c.active = :active,
+             c.updatedAt = :updatedAt,
+             c.deletedAt = :deletedAt,
+             c.version = c.version + 1
+       where c.id = :id
+         and c.version = :version
+      """)
+  int updateIfVersion(
+      @Param("id") String anId,
+      @Param("version") long aVersion,
+      @Param("name") String aName,
+      @Param("description") String aDescription,
+      @Param("active") boolean isActive,
+      @Param("updatedAt") Instant anUpdatedAt,
+      @Param("deletedAt") Instant aDeletedAt
+  );
 }
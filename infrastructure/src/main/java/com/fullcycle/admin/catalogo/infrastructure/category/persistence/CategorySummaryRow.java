@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import java.time.Instant;
+
+// the value of the sorted column travels along so the next page cursor can be built from the row
+public record CategorySummaryRow(
+    String id,
+    String name,
+    String description,
+    boolean active,
+    Instant createdAt,
+    Instant deletedAt,
+    Object sortKey
+) {
+
+  public CategorySummary toSummary() {
+    return new CategorySummary(CategoryId.from(id), name, description, active, createdAt, deletedAt);
+  }
+}
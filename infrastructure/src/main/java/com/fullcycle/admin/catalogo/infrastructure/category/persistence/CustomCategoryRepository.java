@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.function.Consumer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CustomCategoryRepository {
+
+  Slice<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+  Slice<CategorySummaryRow> findSummarySlice(
+      Specification<CategoryJpaEntity> whereClause,
+      Pageable page,
+      String sortKey
+  );
+
+  void forEach(
+      Specification<CategoryJpaEntity> whereClause,
+      Sort sort,
+      int fetchSize,
+      Consumer<CategoryJpaEntity> action
+  );
+}
@@ -0,0 +1,133 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class CustomCategoryRepositoryImpl implements CustomCategoryRepository {
+  private final EntityManager entityManager;
+
+  public CustomCategoryRepositoryImpl(final EntityManager entityManager) {
+    this.entityManager = Objects.requireNonNull(entityManager);
+  }
+
+  @Override
+  public Slice<CategoryJpaEntity> findSlice(
+      final Specification<CategoryJpaEntity> whereClause,
+      final Pageable page
+  ) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    final var query = cb.createQuery(CategoryJpaEntity.class);
+    final var root = query.from(CategoryJpaEntity.class);
+    query.select(root);
+
+    return slice(criteria(query, root, whereClause, page.getSort()), page);
+  }
+
+  // scalar columns only: no managed entities, no dirty-check snapshots
+  @Override
+  public Slice<CategorySummaryRow> findSummarySlice(
+      final Specification<CategoryJpaEntity> whereClause,
+      final Pageable page,
+      final String sortKey
+  ) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    final var query = cb.createTupleQuery();
+    final var root = query.from(CategoryJpaEntity.class);
+    query.multiselect(
+        root.get("id"),
+        root.get("name"),
+        root.get("description"),
+        root.get("active"),
+        root.get("createdAt"),
+        root.get("deletedAt"),
+        root.get(sortKey));
+
+    return slice(criteria(query, root, whereClause, page.getSort()), page)
+        .map(CustomCategoryRepositoryImpl::toSummaryRow);
+  }
+
+  // forward-only scroll, every row is detached once handed out so the session never grows
+  @Override
+  public void forEach(
+      final Specification<CategoryJpaEntity> whereClause,
+      final Sort sort,
+      final int fetchSize,
+      final Consumer<CategoryJpaEntity> action
+  ) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    final var query = cb.createQuery(CategoryJpaEntity.class);
+    final var root = query.from(CategoryJpaEntity.class);
+    query.select(root);
+
+    final var rows = this.entityManager.createQuery(criteria(query, root, whereClause, sort))
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultStream();
+
+    try (rows) {
+      rows.forEach(anEntity -> {
+        action.accept(anEntity);
+        this.entityManager.detach(anEntity);
+      });
+    }
+  }
+
+  private <T> Slice<T> slice(final CriteriaQuery<T> query, final Pageable page) {
+    // one extra row tells whether there is a next slice without running a COUNT
+    final List<T> content = this.entityManager.createQuery(query)
+        .setFirstResult((int) page.getOffset())
+        .setMaxResults(page.getPageSize() + 1)
+        .getResultList();
+
+    final var hasNext = content.size() > page.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? content.subList(0, page.getPageSize()) : content,
+        page,
+        hasNext);
+  }
+
+  private static CategorySummaryRow toSummaryRow(final Tuple aTuple) {
+    return new CategorySummaryRow(
+        aTuple.get(0, String.class),
+        aTuple.get(1, String.class),
+        aTuple.get(2, String.class),
+        aTuple.get(3, Boolean.class),
+        aTuple.get(4, Instant.class),
+        aTuple.get(5, Instant.class),
+        aTuple.get(6));
+  }
+
+  private <T> CriteriaQuery<T> criteria(
+      final CriteriaQuery<T> query,
+      final Root<CategoryJpaEntity> root,
+      final Specification<CategoryJpaEntity> whereClause,
+      final Sort sort
+  ) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+
+    if (whereClause != null) {
+      final var predicate = whereClause.toPredicate(root, query, cb);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+    // keeps any ordering contributed by the specification (e.g. relevance) ahead of the page sort
+    final var orders = new ArrayList<>(query.getOrderList());
+    orders.addAll(QueryUtils.toOrders(sort, root, cb));
+    return query.orderBy(orders);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.type.StandardBasicTypes;
+
+// MATCH ... AGAINST only parses on MySQL; H2 gets the MATCH_AGAINST alias from its migrations
+// (see H2FullText), other dialects get nothing and must keep category.search.full-text off
+public class FullTextFunctionContributor implements FunctionContributor {
+  public static final String MATCH_AGAINST = "match_against";
+
+  @Override
+  public void contributeFunctions(final FunctionContributions functionContributions) {
+    final var doubleType = functionContributions.getTypeConfiguration()
+        .getBasicTypeRegistry()
+        .resolve(StandardBasicTypes.DOUBLE);
+
+    final var dialect = functionContributions.getServiceRegistry()
+        .getService(JdbcServices.class)
+        .getDialect();
+
+    if (dialect instanceof MySQLDialect) {
+      functionContributions.getFunctionRegistry().registerPattern(
+          MATCH_AGAINST,
+          "match(?1, ?2) against (?3 in boolean mode)",
+          doubleType);
+    } else if (dialect instanceof H2Dialect) {
+      functionContributions.getFunctionRegistry().registerPattern(
+          MATCH_AGAINST,
+          "MATCH_AGAINST(?1, ?2, ?3)",
+          doubleType);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// the H2 stand-in for MySQL's boolean mode MATCH ... AGAINST, registered as the MATCH_AGAINST
+// alias by the h2 migrations. It covers what the gateway sends: "+word*" terms that must all
+// start a word of either column; the score counts matching words, enough to rank by relevance
+public final class H2FullText {
+  private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private H2FullText() {
+  }
+
+  public static double matchAgainst(
+      final String aFirstColumn,
+      final String aSecondColumn,
+      final String aBooleanQuery
+  ) {
+    if (aBooleanQuery == null || aBooleanQuery.isBlank()) {
+      return 0d;
+    }
+
+    final var words = Stream.of(aFirstColumn, aSecondColumn)
+        .filter(str -> str != null && !str.isBlank())
+        .flatMap(str -> Arrays.stream(WORD_SEPARATOR.split(str.toLowerCase(Locale.ROOT))))
+        .filter(str -> !str.isEmpty())
+        .toList();
+
+    var score = 0d;
+    for (final var aTerm : aBooleanQuery.trim().split("\\s+")) {
+      final var required = aTerm.startsWith("+");
+      final var prefix = aTerm.endsWith("*");
+      final var word = aTerm.substring(required ? 1 : 0, aTerm.length() - (prefix ? 1 : 0))
+          .toLowerCase(Locale.ROOT);
+
+      final var matches = words.stream()
+          .filter(str -> prefix ? str.startsWith(word) : str.equals(word))
+          .count();
+      if (required && matches == 0) {
+        return 0d;
+      }
+      score += matches;
+    }
+    return score;
+  }
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// keeps the string form in the mapping while the column stores the 16 raw bytes
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+  @Override
+  public byte[] convertToDatabaseColumn(final String anId) {
+    if (anId == null) {
+      return null;
+    }
+
+    final var uuid = UUID.fromString(anId);
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  @Override
+  public String convertToEntityAttribute(final byte[] aColumn) {
+    if (aColumn == null) {
+      return null;
+    }
+
+    final var buffer = ByteBuffer.wrap(aColumn);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+}
@@ -0,0 +1,290 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategorySortField;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class CategorySearchIndex {
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final int LOAD_BATCH_SIZE = 500;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Entries entries = new Entries();
+  // writes made while a rebuild reads the table, replayed onto the rebuilt entries before they
+  // are swapped in; a null category is a removal
+  private Map<CategoryId, Category> writtenWhileRebuilding;
+  private volatile boolean ready;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.snapshots.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // put and remove only see the writes made through this instance, the ones made by other
+  // instances show up once the next rebuild has read them from the table
+  public synchronized void rebuild(final CategoryGateway aSource) {
+    writing(() -> writtenWhileRebuilding = new HashMap<>());
+    try {
+      final var rebuilt = read(aSource);
+      writing(() -> {
+        writtenWhileRebuilding.forEach((anId, aCategory) -> {
+          rebuilt.unindex(anId);
+          if (aCategory != null) {
+            rebuilt.index(aCategory);
+          }
+        });
+        entries = rebuilt;
+        ready = true;
+      });
+    } finally {
+      writing(() -> writtenWhileRebuilding = null);
+    }
+  }
+
+  public void put(final Category aCategory) {
+    final var aSnapshot = Category.with(aCategory);
+    writing(() -> {
+      entries.unindex(aSnapshot.getId());
+      entries.index(aSnapshot);
+      if (writtenWhileRebuilding != null) {
+        writtenWhileRebuilding.put(aSnapshot.getId(), aSnapshot);
+      }
+    });
+  }
+
+  public void remove(final CategoryId anId) {
+    writing(() -> {
+      entries.unindex(anId);
+      if (writtenWhileRebuilding != null) {
+        writtenWhileRebuilding.put(anId, null);
+      }
+    });
+  }
+
+  // hits follow the requested sort and then the id, the same order a database cursor page uses,
+  // so a page can hand out a (sort key, id) cursor and the next one can seek from it
+  public Optional<Pagination<Category>> search(final CategorySearchQuery aQuery) {
+    final var tokens = tokenize(aQuery.terms()).distinct().toList();
+    // unknown sorts are left to the database gateway, which rejects them
+    final var aField = CategorySortField.find(aQuery.sort());
+    if (tokens.isEmpty() || aField.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var aCursor = Optional.ofNullable(aQuery.after())
+        .filter(str -> !str.isBlank())
+        .map(Cursor::decode);
+    if (aCursor.isPresent() && !aCursor.get().sort().equals(aField.get().property())) {
+      return Optional.empty();
+    }
+
+    final var aComparator = comparator(aField.get(), aQuery.direction());
+    final var after = aCursor.map(it -> new SortKey(
+        aField.get().parseKey(it.key(), aQuery.after()),
+        it.id()));
+
+    final List<Category> hits;
+    lock.readLock().lock();
+    try {
+      hits = entries.matches(tokens).stream()
+          .map(entries.snapshots::get)
+          .filter(aCategory -> aQuery.filter().test(aCategory))
+          .sorted(Comparator.comparing(aCategory -> sortKeyOf(aCategory, aField.get()), aComparator))
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    final var from = after
+        .map(aKey -> firstAfter(hits, aKey, aField.get(), aComparator))
+        .orElseGet(() -> (int) Math.min((long) aQuery.page() * aQuery.perPage(), hits.size()));
+    final var to = Math.min(from + aQuery.perPage(), hits.size());
+    final var hasNext = to < hits.size();
+
+    return Optional.of(new Pagination<>(
+        aQuery.page(),
+        aQuery.perPage(),
+        hits.size(),
+        hits.subList(from, to).stream()
+            .map(Category::with)
+            .toList(),
+        hasNext,
+        hasNext ? cursorOf(hits.get(to - 1), aField.get()).encode() : null));
+  }
+
+  private static Entries read(final CategoryGateway aSource) {
+    final var rebuilt = new Entries();
+    var aQuery = new CategorySearchQuery(0, LOAD_BATCH_SIZE, "", "createdAt", "asc")
+        .withoutTotal();
+
+    while (true) {
+      final var aPage = aSource.findAll(aQuery);
+      aPage.items().forEach(aCategory -> rebuilt.index(Category.with(aCategory)));
+
+      if (aPage.nextCursor() == null) {
+        return rebuilt;
+      }
+      aQuery = aQuery.withAfter(aPage.nextCursor());
+    }
+  }
+
+  private void writing(final Runnable anUpdate) {
+    lock.writeLock().lock();
+    try {
+      anUpdate.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static Stream<String> tokensOf(final Category aCategory) {
+    return Stream.concat(tokenize(aCategory.getName()), tokenize(aCategory.getDescription()))
+        .distinct();
+  }
+
+  private static Stream<String> tokenize(final String aText) {
+    if (aText == null || aText.isBlank()) {
+      return Stream.empty();
+    }
+
+    final var normalized = MARKS
+        .matcher(Normalizer.normalize(aText, Normalizer.Form.NFD))
+        .replaceAll("")
+        .toLowerCase(Locale.ROOT);
+
+    return Arrays.stream(SEPARATORS.split(normalized))
+        .filter(token -> !token.isEmpty());
+  }
+
+  private static int firstAfter(
+      final List<Category> hits,
+      final SortKey after,
+      final CategorySortField aField,
+      final Comparator<SortKey> aComparator
+  ) {
+    for (int i = 0; i < hits.size(); i++) {
+      if (aComparator.compare(sortKeyOf(hits.get(i), aField), after) > 0) {
+        return i;
+      }
+    }
+    return hits.size();
+  }
+
+  private static Cursor cursorOf(final Category aCategory, final CategorySortField aField) {
+    final var aKey = sortKeyOf(aCategory, aField);
+    return Cursor.with(
+        aField.property(),
+        aKey.key() == null ? null : aKey.key().toString(),
+        aKey.id());
+  }
+
+  private static SortKey sortKeyOf(final Category aCategory, final CategorySortField aField) {
+    final Comparable<?> aKey = switch (aField) {
+      case NAME -> aCategory.getName();
+      case CREATED_AT -> aCategory.getCreatedAt();
+      case UPDATED_AT -> aCategory.getUpdatedAt();
+    };
+    return new SortKey(aKey, aCategory.getId().getValue());
+  }
+
+  // nulls first on ascending, like the database does. Names compare on base letters only, ignoring
+  // case and accents like the column's utf8mb4_0900_ai_ci, so a cursor handed out here seeks to
+  // the same row on the database path
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Comparator<SortKey> comparator(
+      final CategorySortField aField,
+      final String aDirection
+  ) {
+    final Comparator<Comparable> byKey = aField == CategorySortField.NAME
+        ? Comparator.comparing(aKey -> (String) aKey, nameCollator())
+        : Comparator.naturalOrder();
+
+    final var aComparator = Comparator
+        .comparing((SortKey aKey) -> (Comparable) aKey.key(), Comparator.nullsFirst(byKey))
+        .thenComparing(SortKey::id);
+    return "desc".equalsIgnoreCase(aDirection) ? aComparator.reversed() : aComparator;
+  }
+
+  // a Collator isn't thread-safe, each comparator gets its own
+  private static Collator nameCollator() {
+    final var aCollator = Collator.getInstance(Locale.ROOT);
+    aCollator.setStrength(Collator.PRIMARY);
+    return aCollator;
+  }
+
+  private record SortKey(Comparable<?> key, String id) {
+  }
+
+  private static class Entries {
+    private final Map<CategoryId, Category> snapshots = new HashMap<>();
+    private final NavigableMap<String, Set<CategoryId>> postings = new TreeMap<>();
+
+    // every query token must prefix at least one token of the category
+    private Set<CategoryId> matches(final List<String> tokens) {
+      Set<CategoryId> matches = null;
+      for (final var token : tokens) {
+        final var tokenMatches = new HashSet<CategoryId>();
+        postings.subMap(token, true, token + Character.MAX_VALUE, true)
+            .values()
+            .forEach(tokenMatches::addAll);
+
+        if (matches == null) {
+          matches = tokenMatches;
+        } else {
+          matches.retainAll(tokenMatches);
+        }
+      }
+      return matches;
+    }
+
+    private void index(final Category aCategory) {
+      snapshots.put(aCategory.getId(), aCategory);
+      tokensOf(aCategory).forEach(token ->
+          postings.computeIfAbsent(token, key -> new HashSet<>()).add(aCategory.getId()));
+    }
+
+    private void unindex(final CategoryId anId) {
+      final var previous = snapshots.remove(anId);
+      if (previous == null) {
+        return;
+      }
+
+      tokensOf(previous).forEach(token -> {
+        final var ids = postings.get(token);
+        if (ids != null && ids.remove(anId) && ids.isEmpty()) {
+          postings.remove(token);
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IndexedCategoryGateway implements CategoryGateway {
+  private final CategoryGateway delegate;
+  private final CategorySearchIndex index;
+
+  public IndexedCategoryGateway(final CategoryGateway delegate, final CategorySearchIndex index) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.index = Objects.requireNonNull(index);
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    final var aResult = this.delegate.create(aCategory);
+    this.index.put(aResult);
+    return aResult;
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    final var aResult = this.delegate.createAll(aCategories);
+    aResult.forEach(this.index::put);
+    return aResult;
+  }
+
+  @Override
+  public int deleteById(final CategoryId anId) {
+    final var deleted = this.delegate.deleteById(anId);
+    this.index.remove(anId);
+    return deleted;
+  }
+
+  @Override
+  public int deleteAllById(final Collection<CategoryId> anIds) {
+    final var deleted = this.delegate.deleteAllById(anIds);
+    anIds.forEach(this.index::remove);
+    return deleted;
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryId anId) {
+    return this.delegate.findById(anId);
+  }
+
+  @Override
+  public Optional<Category> findLatestById(final CategoryId anId) {
+    return this.delegate.findLatestById(anId);
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    final var aResult = this.delegate.update(aCategory);
+    this.index.put(aResult);
+    return aResult;
+  }
+
+  @Override
+  public List<Category> updateAll(final List<Category> aCategories) {
+    final var aResult = this.delegate.updateAll(aCategories);
+    aResult.forEach(this.index::put);
+    return aResult;
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    if (!isIndexable(aQuery)) {
+      return this.delegate.findAll(aQuery);
+    }
+
+    return this.index.search(aQuery)
+        .orElseGet(() -> this.delegate.findAll(aQuery));
+  }
+
+  // the index already holds the aggregates in memory, so they are only narrowed down here
+  @Override
+  public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+    if (!isIndexable(aQuery)) {
+      return this.delegate.findAllSummaries(aQuery);
+    }
+
+    return this.index.search(aQuery)
+        .map(aPage -> aPage.map(CategorySummary::from))
+        .orElseGet(() -> this.delegate.findAllSummaries(aQuery));
+  }
+
+  @Override
+  public void streamAll(final CategorySearchQuery aQuery, final Consumer<Category> anAction) {
+    this.delegate.streamAll(aQuery, anAction);
+  }
+
+  // the index matches token prefixes ("film" finds "Filmes", "lmes" does not) while the database
+  // matches LIKE '%term%' or FULLTEXT prefixes; a cold index can therefore return more rows for a
+  // mid-word term, and cursor pages stay on the index while it is ready so a walk never mixes both
+  private boolean isIndexable(final CategorySearchQuery aQuery) {
+    return this.index.isReady()
+        && aQuery.terms() != null
+        && !aQuery.terms().isBlank();
+  }
+}
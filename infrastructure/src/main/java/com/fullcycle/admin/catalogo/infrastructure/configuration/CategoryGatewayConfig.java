@@ -0,0 +1,167 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesCache;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMysqlGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.cache.CachingCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.cache.ListCacheInvalidatingCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.limit.ConcurrencyLimitingCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.metrics.MeteredCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.IndexedCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadYourWrites;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class CategoryGatewayConfig implements DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(CategoryGatewayConfig.class);
+
+  private final CategoryMysqlGateway mysqlGateway;
+  private final ObjectProvider<CategorySearchIndex> searchIndex;
+  private final ObjectProvider<Cache<CategoryId, Category>> categoryCache;
+  private final ObjectProvider<ListCategoriesCache> listCache;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final Duration indexRebuildInterval;
+  private ScheduledExecutorService indexRebuilder;
+
+  public CategoryGatewayConfig(
+      final CategoryMysqlGateway mysqlGateway,
+      final ObjectProvider<CategorySearchIndex> searchIndex,
+      final ObjectProvider<Cache<CategoryId, Category>> categoryCache,
+      final ObjectProvider<ListCategoriesCache> listCache,
+      final ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${category.search.index.rebuild-interval:5m}") final Duration indexRebuildInterval
+  ) {
+    this.mysqlGateway = mysqlGateway;
+    this.searchIndex = searchIndex;
+    this.categoryCache = categoryCache;
+    this.listCache = listCache;
+    this.meterRegistry = meterRegistry;
+    this.indexRebuildInterval = indexRebuildInterval;
+  }
+
+  @Override
+  public void destroy() {
+    if (this.indexRebuilder != null) {
+      this.indexRebuilder.shutdownNow();
+    }
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "category.search.index.enabled", havingValue = "true")
+  public CategorySearchIndex categorySearchIndex() {
+    return new CategorySearchIndex();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "category.cache.enabled", havingValue = "true")
+  public Cache<CategoryId, Category> categoryCache(
+      @Value("${category.cache.maximum-size:10000}") final long maximumSize,
+      @Value("${category.cache.time-to-live:5s}") final Duration timeToLive
+  ) {
+    final var cache = CachingCategoryGateway.newCache(maximumSize, timeToLive);
+    this.meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, cache, "category"));
+    return cache;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "category.list-cache.enabled", havingValue = "true")
+  public ListCategoriesCache listCategoriesCache(
+      @Value("${category.list-cache.maximum-size:256}") final int maximumSize,
+      @Value("${category.list-cache.time-to-live:30s}") final Duration timeToLive
+  ) {
+    return new ListCategoriesCache(maximumSize, timeToLive);
+  }
+
+  @Bean
+  @Primary
+  public CategoryGateway categoryGateway(
+      @Value("${execution.virtual-threads.enabled:false}") final boolean virtualThreads,
+      @Value("${execution.gateway.max-concurrency:10}") final int maxConcurrency,
+      @Value("${execution.gateway.replica-max-concurrency:10}") final int maxReplicaConcurrency,
+      @Value("${execution.gateway.acquire-timeout:2s}") final Duration acquireTimeout,
+      @Value("${datasource.replica.enabled:false}") final boolean replica
+  ) {
+    CategoryGateway gateway = this.mysqlGateway;
+
+    final var registry = this.meterRegistry.getIfAvailable();
+    if (registry != null) {
+      gateway = new MeteredCategoryGateway(gateway, registry);
+    }
+
+    // with virtual threads nothing bounds the callers anymore, the pool sizes do it here
+    if (virtualThreads && replica) {
+      gateway = new ConcurrencyLimitingCategoryGateway(
+          gateway,
+          maxConcurrency,
+          maxReplicaConcurrency,
+          ReadYourWrites::requiresPrimary,
+          acquireTimeout);
+    } else if (virtualThreads) {
+      gateway = new ConcurrencyLimitingCategoryGateway(gateway, maxConcurrency, acquireTimeout);
+    }
+
+    final var index = this.searchIndex.getIfAvailable();
+    if (index != null) {
+      gateway = new IndexedCategoryGateway(gateway, index);
+    }
+
+    final var cache = this.categoryCache.getIfAvailable();
+    if (cache != null) {
+      gateway = new CachingCategoryGateway(gateway, cache);
+    }
+
+    final var pages = this.listCache.getIfAvailable();
+    if (pages != null) {
+      gateway = new ListCacheInvalidatingCategoryGateway(gateway, pages);
+    }
+
+    return gateway;
+  }
+
+  // the index is rebuilt from the table on every interval to pick up writes from other instances
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadSearchIndex() {
+    this.searchIndex.ifAvailable(index -> {
+      this.indexRebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "category-index-rebuilder");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.indexRebuilder.scheduleWithFixedDelay(
+          () -> rebuild(index),
+          0,
+          this.indexRebuildInterval.toMillis(),
+          TimeUnit.MILLISECONDS);
+    });
+  }
+
+  // a failed run keeps the previous entries and must not cancel the next ones
+  private void rebuild(final CategorySearchIndex index) {
+    try {
+      index.rebuild(this.mysqlGateway);
+    } catch (RuntimeException ex) {
+      log.warn("Failed to rebuild the category search index", ex);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// declaring our own pools makes boot back off, so the primary keeps being configured
+// from spring.datasource and the replica gets its own url and pool sizing
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    return new HikariDataSource();
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource routingDataSource(
+      @Qualifier("primaryDataSource") final DataSource primary,
+      @Qualifier("replicaDataSource") final DataSource replica,
+      @Value("${datasource.replica.read-your-writes-window:2s}") final Duration window
+  ) {
+    return new ReadWriteRoutingDataSource(primary, replica, window);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(final ReadWriteRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+    return new FilterRegistrationBean<>(new ReadYourWritesFilter());
+  }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutionConfig {
+  private static final Logger log = LoggerFactory.getLogger(ExecutionConfig.class);
+
+  private final boolean virtualThreads;
+
+  public ExecutionConfig(
+      @Value("${execution.virtual-threads.enabled:false}") final boolean virtualThreads
+  ) {
+    this.virtualThreads = virtualThreads;
+  }
+
+  @Bean
+  public ThreadFactory useCaseThreadFactory() {
+    if (this.virtualThreads) {
+      final var factory = VirtualThreads.threadFactory("use-case-");
+      if (factory.isPresent()) {
+        return factory.get();
+      }
+      log.warn("Virtual threads are not available on this runtime, using platform threads");
+    }
+
+    final var counter = new AtomicLong();
+    return runnable -> {
+      final var thread = new Thread(runnable, "use-case-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  // a bean, so the context shuts it down once the web server has stopped
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnClass(UndertowServletWebServerFactory.class)
+  @ConditionalOnProperty(name = "execution.virtual-threads.enabled", havingValue = "true")
+  public ExecutorService httpExecutor() {
+    final var executor = VirtualThreads.newThreadPerTaskExecutor("http-");
+    if (executor.isEmpty()) {
+      log.warn("Virtual threads are not available on this runtime, using the undertow workers");
+    }
+    return executor.orElse(null);
+  }
+
+  // servlet requests are dispatched to virtual threads instead of the fixed undertow worker pool
+  @Bean
+  @ConditionalOnClass(UndertowServletWebServerFactory.class)
+  @ConditionalOnProperty(name = "execution.virtual-threads.enabled", havingValue = "true")
+  public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreads(
+      @Qualifier("httpExecutor") final ObjectProvider<ExecutorService> httpExecutor
+  ) {
+    return factory -> httpExecutor.ifAvailable(executor -> factory.addDeploymentInfoCustomizers(
+        deploymentInfo -> deploymentInfo.setExecutor(executor)));
+  }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdentifierConfig {
+
+  public IdentifierConfig(@Value("${ids.generator:random}") final IdUtils.Generator aGenerator) {
+    IdUtils.use(aGenerator);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// looked up reflectively so the build keeps targeting Java 17, virtual threads are used
+// whenever the runtime has them (JDK 21+) and the caller falls back otherwise
+public final class VirtualThreads {
+  private VirtualThreads() {
+  }
+
+  public static Optional<ThreadFactory> threadFactory(final String aNamePrefix) {
+    try {
+      final var builderType = Class.forName("java.lang.Thread$Builder");
+      final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final var named = builderType.getMethod("name", String.class, long.class)
+          .invoke(builder, aNamePrefix, 0L);
+      return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(named));
+    } catch (final ReflectiveOperationException | RuntimeException ex) {
+      return Optional.empty();
+    }
+  }
+
+  public static Optional<ExecutorService> newThreadPerTaskExecutor(final String aNamePrefix) {
+    return threadFactory(aNamePrefix).flatMap(factory -> {
+      try {
+        return Optional.of((ExecutorService) Executors.class
+            .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+            .invoke(null, factory));
+      } catch (final ReflectiveOperationException | RuntimeException ex) {
+        return Optional.empty();
+      }
+    });
+  }
+}
@@ -1,50 +1,219 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.create.AsyncCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultAsyncCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultAsyncDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.export.RecordWriterFactory;
+import com.fullcycle.admin.catalogo.application.category.importing.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.importing.RecordReaderFactory;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CachingListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesCache;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultAsyncUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.export.RecordWriters;
+import com.fullcycle.admin.catalogo.infrastructure.category.importing.RecordReaders;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.VirtualThreads;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReadYourWrites;
+import com.fullcycle.admin.catalogo.infrastructure.metrics.UseCaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-public class CategoryUseCaseConfig {
+public class CategoryUseCaseConfig implements DisposableBean {
   private final CategoryGateway categoryGateway;
+  private final ObjectProvider<ListCategoriesCache> listCache;
+  private final RecordReaderFactory recordReaders;
+  private final RecordWriterFactory recordWriters;
+  private final ExecutorService useCaseExecutor;
+  private final ExecutorService importExecutor;
+  private final Executor asyncExecutor;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
 
-  public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+  public CategoryUseCaseConfig(
+      final CategoryGateway categoryGateway,
+      final ObjectProvider<ListCategoriesCache> listCache,
+      final ObjectMapper objectMapper,
+      final ThreadFactory useCaseThreadFactory,
+      final ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${execution.virtual-threads.enabled:false}") final boolean virtualThreads,
+      @Value("${execution.async.threads:10}") final int asyncThreads
+  ) {
     this.categoryGateway = categoryGateway;
+    this.listCache = listCache;
+    this.recordReaders = new RecordReaders(objectMapper);
+    this.recordWriters = new RecordWriters(objectMapper);
+    this.useCaseExecutor = newUseCaseExecutor(virtualThreads, asyncThreads);
+    // unbounded: every running import needs all of its stages scheduled at once
+    this.importExecutor = Executors.newCachedThreadPool(useCaseThreadFactory);
+    this.asyncExecutor = ReadYourWrites.propagating(this.useCaseExecutor);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void destroy() {
+    this.useCaseExecutor.shutdownNow();
+    this.importExecutor.shutdownNow();
   }
 
   @Bean
   public CreateCategoryUseCase createCategoryUseCase() {
-    return new DefaultCreateCategoryUseCase(categoryGateway);
+    return metered(CreateCategoryUseCase.class, "create-category",
+        new DefaultCreateCategoryUseCase(categoryGateway));
+  }
+
+  @Bean
+  public CreateCategoriesBatchUseCase createCategoriesBatchUseCase() {
+    return metered(CreateCategoriesBatchUseCase.class, "create-categories-batch",
+        new DefaultCreateCategoriesBatchUseCase(categoryGateway));
   }
 
   @Bean
   public UpdateCategoryUseCase updateCategoryUseCase() {
-    return new DefaultUpdateCategoryUseCase(categoryGateway);
+    return metered(UpdateCategoryUseCase.class, "update-category",
+        new DefaultUpdateCategoryUseCase(categoryGateway));
   }
 
   @Bean
   public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-    return new DefaultGetCategoryByIdUseCase(categoryGateway);
+    return metered(GetCategoryByIdUseCase.class, "get-category-by-id",
+        new DefaultGetCategoryByIdUseCase(categoryGateway));
   }
 
   @Bean
   public ListCategoriesUseCase listCategoriesUseCase() {
-    return new DefaultListCategoriesUseCase(categoryGateway);
+    final var useCase = new DefaultListCategoriesUseCase(categoryGateway);
+    final var cache = listCache.getIfAvailable();
+    return metered(ListCategoriesUseCase.class, "list-categories",
+        cache != null ? new CachingListCategoriesUseCase(onPrimary(useCase), cache) : useCase);
   }
 
   @Bean
   public DeleteCategoryUseCase deleteCategoryUseCase() {
-    return new DefaultDeleteCategoryUseCase(categoryGateway);
+    return metered(DeleteCategoryUseCase.class, "delete-category",
+        new DefaultDeleteCategoryUseCase(categoryGateway));
+  }
+
+  @Bean
+  public ExportCategoriesUseCase exportCategoriesUseCase() {
+    return metered(ExportCategoriesUseCase.class, "export-categories",
+        new DefaultExportCategoriesUseCase(categoryGateway, recordWriters));
+  }
+
+  @Bean
+  public ImportCategoriesUseCase importCategoriesUseCase() {
+    return metered(ImportCategoriesUseCase.class, "import-categories",
+        new DefaultImportCategoriesUseCase(categoryGateway, recordReaders, importExecutor));
+  }
+
+  @Bean
+  public AsyncCreateCategoryUseCase asyncCreateCategoryUseCase(
+      final CreateCategoryUseCase useCase
+  ) {
+    return metered(AsyncCreateCategoryUseCase.class, "async-create-category",
+        new DefaultAsyncCreateCategoryUseCase(useCase, asyncExecutor));
+  }
+
+  @Bean
+  public AsyncUpdateCategoryUseCase asyncUpdateCategoryUseCase(
+      final UpdateCategoryUseCase useCase
+  ) {
+    return metered(AsyncUpdateCategoryUseCase.class, "async-update-category",
+        new DefaultAsyncUpdateCategoryUseCase(useCase, asyncExecutor));
+  }
+
+  @Bean
+  public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(
+      final GetCategoryByIdUseCase useCase
+  ) {
+    return metered(AsyncGetCategoryByIdUseCase.class, "async-get-category-by-id",
+        new DefaultAsyncGetCategoryByIdUseCase(useCase, asyncExecutor));
+  }
+
+  @Bean
+  public AsyncListCategoriesUseCase asyncListCategoriesUseCase(
+      final ListCategoriesUseCase useCase
+  ) {
+    return metered(AsyncListCategoriesUseCase.class, "async-list-categories",
+        new DefaultAsyncListCategoriesUseCase(useCase, asyncExecutor));
+  }
+
+  @Bean
+  public AsyncDeleteCategoryUseCase asyncDeleteCategoryUseCase(
+      final DeleteCategoryUseCase useCase
+  ) {
+    return metered(AsyncDeleteCategoryUseCase.class, "async-delete-category",
+        new DefaultAsyncDeleteCategoryUseCase(useCase, asyncExecutor));
+  }
+
+  // backs the async use cases, bounded on platform threads so a burst of fan-out reads cannot
+  // outgrow the connection pool; not a bean, an Executor bean would replace Boot's task executor
+  private static ExecutorService newUseCaseExecutor(
+      final boolean virtualThreads,
+      final int asyncThreads
+  ) {
+    if (virtualThreads) {
+      final var executor = VirtualThreads.newThreadPerTaskExecutor("async-use-case-");
+      if (executor.isPresent()) {
+        return executor.get();
+      }
+    }
+
+    final var counter = new AtomicLong();
+    return Executors.newFixedThreadPool(asyncThreads, runnable -> {
+      final var thread = new Thread(runnable, "async-use-case-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  // cached pages outlive the request, so they are read from the primary like the findById cache
+  private static ListCategoriesUseCase onPrimary(final ListCategoriesUseCase aUseCase) {
+    return new ListCategoriesUseCase() {
+      @Override
+      public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+        return ReadYourWrites.onPrimary(() -> aUseCase.execute(aQuery));
+      }
+    };
   }
 
+  private <T> T metered(final Class<T> aType, final String aName, final T aUseCase) {
+    final var registry = this.meterRegistry.getIfAvailable();
+    return registry != null
+        ? UseCaseMetrics.instrument(registry, aType, aName, aUseCase)
+        : aUseCase;
+  }
 }
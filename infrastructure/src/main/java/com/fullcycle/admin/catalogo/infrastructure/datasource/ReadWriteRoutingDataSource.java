@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// read-only transactions go to the replica unless the current caller committed a write within
+// the read-your-writes window (see ReadYourWrites), which keeps a client from missing its own
+// update to replica lag. Must sit behind a LazyConnectionDataSourceProxy so the lookup happens
+// after the transaction's read-only flag is known
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY, REPLICA
+  }
+
+  private final long windowMillis;
+
+  public ReadWriteRoutingDataSource(
+      final DataSource aPrimary,
+      final DataSource aReplica,
+      final Duration aReadYourWritesWindow
+  ) {
+    Objects.requireNonNull(aPrimary);
+    Objects.requireNonNull(aReplica);
+    this.windowMillis = aReadYourWritesWindow.toMillis();
+    setTargetDataSources(Map.of(Route.PRIMARY, aPrimary, Route.REPLICA, aReplica));
+    setDefaultTargetDataSource(aPrimary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return Route.PRIMARY;
+    }
+
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      // any read-write transaction counts as a write, committing one opens the caller's window
+      if (this.windowMillis > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            ReadYourWrites.recordWrite(windowMillis);
+          }
+        });
+      }
+      return Route.PRIMARY;
+    }
+
+    return ReadYourWrites.requiresPrimary() ? Route.PRIMARY : Route.REPLICA;
+  }
+}
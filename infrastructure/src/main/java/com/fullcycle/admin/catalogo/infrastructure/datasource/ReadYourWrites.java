@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+// per-caller routing state: a caller's own writes pin only that caller's reads to the primary,
+// so steady writes from everyone else never take the replica out of rotation. A caller is
+// whatever opens a scope (an HTTP client, see ReadYourWritesFilter); code outside any scope
+// has no writes of its own to read back and always reads from the replica
+public final class ReadYourWrites {
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+  private ReadYourWrites() {
+  }
+
+  public static Scope open(final long aPrimaryUntilMillis, final LongConsumer onWrite) {
+    final var aScope = new Scope(CURRENT.get(), aPrimaryUntilMillis, onWrite);
+    CURRENT.set(aScope);
+    return aScope;
+  }
+
+  // for reads whose result outlives the caller, e.g. cache loads, which must never be stale
+  public static <T> T onPrimary(final Supplier<T> aCall) {
+    final var previous = FORCED.get();
+    FORCED.set(Boolean.TRUE);
+    try {
+      return aCall.get();
+    } finally {
+      if (previous == null) {
+        FORCED.remove();
+      } else {
+        FORCED.set(previous);
+      }
+    }
+  }
+
+  // hands the caller's scope to whatever thread runs the task, writes there count for the caller
+  public static Executor propagating(final Executor anExecutor) {
+    Objects.requireNonNull(anExecutor);
+    return aTask -> {
+      final var aScope = CURRENT.get();
+      anExecutor.execute(() -> {
+        final var previous = CURRENT.get();
+        CURRENT.set(aScope);
+        try {
+          aTask.run();
+        } finally {
+          restore(previous);
+        }
+      });
+    };
+  }
+
+  // whether a read-only transaction started here would be routed to the primary
+  public static boolean requiresPrimary() {
+    if (Boolean.TRUE.equals(FORCED.get())) {
+      return true;
+    }
+    final var aScope = CURRENT.get();
+    return aScope != null && System.currentTimeMillis() < aScope.primaryUntilMillis;
+  }
+
+  static void recordWrite(final long aWindowMillis) {
+    final var aScope = CURRENT.get();
+    if (aScope == null || aWindowMillis <= 0) {
+      return;
+    }
+
+    final var until = System.currentTimeMillis() + aWindowMillis;
+    aScope.primaryUntilMillis = Math.max(aScope.primaryUntilMillis, until);
+    aScope.onWrite.accept(aScope.primaryUntilMillis);
+  }
+
+  private static void restore(final Scope aScope) {
+    if (aScope == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(aScope);
+    }
+  }
+
+  public static final class Scope implements AutoCloseable {
+    private final Scope previous;
+    private final LongConsumer onWrite;
+    private volatile long primaryUntilMillis;
+
+    private Scope(final Scope previous, final long primaryUntilMillis, final LongConsumer onWrite) {
+      this.previous = previous;
+      this.primaryUntilMillis = primaryUntilMillis;
+      this.onWrite = Objects.requireNonNull(onWrite);
+    }
+
+    public long primaryUntilMillis() {
+      return this.primaryUntilMillis;
+    }
+
+    @Override
+    public void close() {
+      restore(this.previous);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// each HTTP client is a read-your-writes caller: the end of its window travels in a cookie, so
+// the follow-up request that reads back a write goes to the primary on any node. The cookie is
+// set when the write commits, before the response body is written
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+  static final String COOKIE = "read-your-writes";
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain
+  ) throws ServletException, IOException {
+    final LongConsumer onWrite = until -> {
+      if (!response.isCommitted()) {
+        response.addCookie(cookie(until));
+      }
+    };
+
+    try (var ignored = ReadYourWrites.open(primaryUntil(request), onWrite)) {
+      filterChain.doFilter(request, response);
+    }
+  }
+
+  private static long primaryUntil(final HttpServletRequest request) {
+    if (request.getCookies() == null) {
+      return 0L;
+    }
+    return Arrays.stream(request.getCookies())
+        .filter(aCookie -> COOKIE.equals(aCookie.getName()))
+        .findFirst()
+        .map(aCookie -> {
+          try {
+            return Long.parseLong(aCookie.getValue());
+          } catch (final NumberFormatException ex) {
+            return 0L;
+          }
+        })
+        .orElse(0L);
+  }
+
+  private static Cookie cookie(final long aPrimaryUntilMillis) {
+    final var remainingMillis = aPrimaryUntilMillis - System.currentTimeMillis();
+    final var aCookie = new Cookie(COOKIE, Long.toString(aPrimaryUntilMillis));
+    aCookie.setPath("/");
+    aCookie.setHttpOnly(true);
+    aCookie.setMaxAge((int) Math.max(1L, (remainingMillis + 999) / 1000));
+    return aCookie;
+  }
+}
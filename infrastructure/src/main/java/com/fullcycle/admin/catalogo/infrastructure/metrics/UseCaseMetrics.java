@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.ProxyFactory;
+
+// use cases are abstract classes rather than interfaces, so the proxy subclasses the use case
+// type itself; the concrete implementation may be final
+public final class UseCaseMetrics {
+  public static final String TIMER = "category.use-case";
+
+  private UseCaseMetrics() {
+  }
+
+  public static <T> T instrument(
+      final MeterRegistry aRegistry,
+      final Class<T> aType,
+      final String aName,
+      final T aUseCase
+  ) {
+    final var factory = new ProxyFactory();
+    factory.setProxyTargetClass(true);
+    factory.setTargetSource(new FixedTargetSource(aType, aUseCase));
+    factory.addAdvice((MethodInterceptor) invocation ->
+        "execute".equals(invocation.getMethod().getName())
+            ? record(aRegistry, aName, invocation)
+            : invocation.proceed());
+    return aType.cast(factory.getProxy(aType.getClassLoader()));
+  }
+
+  private static Object record(
+      final MeterRegistry aRegistry,
+      final String aName,
+      final MethodInvocation anInvocation
+  ) throws Throwable {
+    final var sample = Timer.start(aRegistry);
+
+    final Object result;
+    try {
+      result = anInvocation.proceed();
+    } catch (final Throwable t) {
+      sample.stop(timer(aRegistry, aName, null, t));
+      throw t;
+    }
+
+    // async use cases are timed until they complete, the caller keeps the original future
+    // so cancelling it still reaches the running task
+    if (result instanceof CompletableFuture<?> future) {
+      future.whenComplete((value, error) -> sample.stop(timer(aRegistry, aName, value, error)));
+    } else {
+      sample.stop(timer(aRegistry, aName, result, null));
+    }
+    return result;
+  }
+
+  private static Timer timer(
+      final MeterRegistry aRegistry,
+      final String aName,
+      final Object aResult,
+      final Throwable anError
+  ) {
+    final var thrown = anError instanceof CompletionException && anError.getCause() != null
+        ? anError.getCause()
+        : anError;
+
+    // create and update hand gateway failures back as a Left, the notification keeps the cause;
+    // a DomainException there is a rejected command (e.g. a version conflict), not a failure
+    final var error = thrown != null ? thrown : causeOf(aResult);
+
+    final String outcome;
+    if (thrown != null || (error != null && !(error instanceof DomainException))) {
+      outcome = "exception";
+    } else if (aResult instanceof Either<?, ?> either && either.isLeft()) {
+      outcome = "notification";
+    } else {
+      outcome = "success";
+    }
+
+    return Timer.builder(TIMER)
+        .tag("use-case", aName)
+        .tag("outcome", outcome)
+        .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+        .register(aRegistry);
+  }
+
+  private static Throwable causeOf(final Object aResult) {
+    if (aResult instanceof Either<?, ?> either
+        && either.isLeft()
+        && either.getLeft() instanceof Notification notification) {
+      return notification.getCause().orElse(null);
+    }
+    return null;
+  }
+
+  private record FixedTargetSource(Class<?> type, Object target) implements TargetSource {
+
+    @Override
+    public Class<?> getTargetClass() {
+      return type;
+    }
+
+    @Override
+    public boolean isStatic() {
+      return true;
+    }
+
+    @Override
+    public Object getTarget() {
+      return target;
+    }
+
+    @Override
+    public void releaseTarget(final Object aTarget) {
+    }
+  }
+}
@@ -1,5 +1,11 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.FullTextFunctionContributor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class SpecificationUtils {
@@ -10,6 +16,96 @@ public final class SpecificationUtils {
     return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
   }
 
+  public static <T> Specification<T> equal(final String prop, final Object value) {
+    return (root, query, cb) -> cb.equal(root.get(prop), value);
+  }
+
+  // from is inclusive and to is exclusive, a missing bound leaves that side open
+  public static <T> Specification<T> within(
+      final String prop,
+      final Instant from,
+      final Instant to
+  ) {
+    if (from == null && to == null) {
+      return null;
+    }
+    return (root, query, cb) -> {
+      final Path<Instant> path = root.get(prop);
+      if (from == null) {
+        return cb.lessThan(path, to);
+      }
+      if (to == null) {
+        return cb.greaterThanOrEqualTo(path, from);
+      }
+      return cb.and(cb.greaterThanOrEqualTo(path, from), cb.lessThan(path, to));
+    };
+  }
+
+  public static <T> Specification<T> fullText(
+      final String firstProp,
+      final String secondProp,
+      final String term
+  ) {
+    return (root, query, cb) -> cb.greaterThan(
+        matchAgainst(root, cb, firstProp, secondProp, term),
+        0d);
+  }
+
+  public static <T> Specification<T> byRelevance(
+      final String firstProp,
+      final String secondProp,
+      final String term
+  ) {
+    return (root, query, cb) -> {
+      if (!Long.class.equals(query.getResultType())) {
+        query.orderBy(cb.desc(matchAgainst(root, cb, firstProp, secondProp, term)));
+      }
+      return null;
+    };
+  }
+
+  // nulls sort first on ascending and last on descending, as in MySQL and H2
+  public static <T> Specification<T> seek(
+      final String prop,
+      final Comparable<?> key,
+      final String id,
+      final boolean ascending
+  ) {
+    return (root, query, cb) -> {
+      final Path<Comparable<Object>> path = root.get(prop);
+      final Path<String> idPath = root.get("id");
+      final var afterId = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+
+      if (key == null) {
+        return ascending
+            ? cb.or(cb.isNotNull(path), cb.and(cb.isNull(path), afterId))
+            : cb.and(cb.isNull(path), afterId);
+      }
+
+      @SuppressWarnings("unchecked")
+      final var value = (Comparable<Object>) key;
+      final var sameKey = cb.and(cb.equal(path, value), afterId);
+      return ascending
+          ? cb.or(cb.greaterThan(path, value), sameKey)
+          : cb.or(cb.lessThan(path, value), sameKey, cb.isNull(path));
+    };
+  }
+
+  private static Expression<Double> matchAgainst(
+      final Root<?> root,
+      final CriteriaBuilder cb,
+      final String firstProp,
+      final String secondProp,
+      final String term
+  ) {
+    return cb.function(
+        FullTextFunctionContributor.MATCH_AGAINST,
+        Double.class,
+        root.get(firstProp),
+        root.get(secondProp),
+        cb.literal(term));
+  }
+
   private static String like(final String term) {
     return "%" + term + "%";
   }
@@ -0,0 +1,2 @@
+CREATE ALIAS IF NOT EXISTS MATCH_AGAINST
+    FOR 'com.fullcycle.admin.catalogo.infrastructure.category.persistence.H2FullText.matchAgainst';
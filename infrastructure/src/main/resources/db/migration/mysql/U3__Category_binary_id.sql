@@ -0,0 +1,8 @@
+ALTER TABLE category ADD COLUMN id_str VARCHAR(36) NULL FIRST;
+UPDATE category SET id_str = BIN_TO_UUID(id);
+ALTER TABLE category
+    MODIFY id_str VARCHAR(36) NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    RENAME COLUMN id_str TO id,
+    ADD PRIMARY KEY (id);
@@ -0,0 +1,2 @@
+DROP INDEX idx_category_active_created_at_id ON category;
+DROP INDEX idx_category_active_updated_at_id ON category;
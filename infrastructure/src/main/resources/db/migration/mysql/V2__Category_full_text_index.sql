@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX idx_category_full_text ON category (name, description);
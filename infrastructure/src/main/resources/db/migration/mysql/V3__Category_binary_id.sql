@@ -0,0 +1,8 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE category SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE category
+    MODIFY id_bin BINARY(16) NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    RENAME COLUMN id_bin TO id,
+    ADD PRIMARY KEY (id);
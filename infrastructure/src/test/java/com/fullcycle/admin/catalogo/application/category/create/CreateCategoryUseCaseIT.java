@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verify;
 import com.fullcycle.admin.catalogo.IntegrationTest;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -27,6 +29,9 @@ public class CreateCategoryUseCaseIT {
   @SpyBean
   private CategoryGateway categoryGateway;
 
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   @Test
   public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() {
     final var expectedName = "Filmes";
@@ -55,6 +60,19 @@ public class CreateCategoryUseCaseIT {
     Assertions.assertNull(actualCategory.getDeletedAt());
   }
 
+  @Test
+  public void givenAValidCommand_whenCallsCreateCategory_shouldIssueASingleInsert() {
+    final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    useCase.execute(aCommand).get();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(1, statistics.getEntityInsertCount());
+  }
+
   @Test
   public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnDomainException() {
     final String expectedName = null;
@@ -25,7 +25,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 @IntegrationTest
 public class UpdateCategoryUseCaseIT {
   @Autowired
-  private DefaultUpdateCategoryUseCase useCase;
+  private UpdateCategoryUseCase useCase;
 
   @Autowired
   private CategoryRepository categoryRepository;
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+// runs the MATCH path on H2 through the MATCH_AGAINST alias (see H2FullText)
+@MySQLGatewayTest
+@TestPropertySource(properties = {
+    "category.search.full-text=true",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+public class CategoryFullTextSearchTest {
+
+  @Autowired
+  private CategoryMysqlGateway categoryGateway;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  private final Category aventura = Category.newCategory("Aventura", "Filmes de aventura", true);
+  private final Category zumbis =
+      Category.newCategory("Zumbis", "Filmes de zumbi, filmes antigos e filmes novos", true);
+  private final Category animes = Category.newCategory("Animes", null, true);
+  private final Category matematica = Category.newCategory("Mathematics", null, true);
+
+  @BeforeEach
+  void setUp() {
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(aventura),
+        CategoryJpaEntity.from(zumbis),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(matematica)
+    ));
+  }
+
+  @Test
+  void givenTerms_whenCallsFindAll_shouldRankMatchesByRelevanceAheadOfTheSort() {
+    final var query = new CategorySearchQuery(0, 1, "film", "name", "asc");
+
+    final var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(2, actualResult.total());
+    assertEquals(1, actualResult.items().size());
+    assertEquals(zumbis.getId(), actualResult.items().get(0).getId());
+    assertTrue(actualResult.hasNext());
+    assertNull(actualResult.nextCursor());
+
+    final var secondPage =
+        categoryGateway.findAll(new CategorySearchQuery(1, 1, "film", "name", "asc"));
+
+    assertEquals(aventura.getId(), secondPage.items().get(0).getId());
+  }
+
+  @Test
+  void givenSeveralTerms_whenCallsFindAll_shouldRequireEveryTermAsAWordPrefix() {
+    final var query = new CategorySearchQuery(0, 10, "fil ave", "name", "asc");
+
+    final var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(aventura.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenATermShorterThanTheMinimumTokenSize_whenCallsFindAll_shouldFallBackToLike() {
+    final var query = new CategorySearchQuery(0, 10, "ni", "name", "asc");
+
+    final var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenAStopword_whenCallsFindAll_shouldFallBackToLike() {
+    final var query = new CategorySearchQuery(0, 10, "the", "name", "asc");
+
+    final var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(matematica.getId(), actualResult.items().get(0).getId());
+  }
+}
@@ -1,16 +1,27 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.admin.catalogo.domain.category.CategoryId;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -23,6 +34,9 @@ public class CategoryMySQLGatewayTest {
   @Autowired
   private CategoryRepository categoryRepository;
 
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   @Test
   void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
     final var expectedName = "Filmes";
@@ -116,16 +130,55 @@ public class CategoryMySQLGatewayTest {
 
     assertEquals(1, categoryRepository.count());
 
+    assertEquals(1, categoryGateway.deleteById(aCategory.getId()));
+    assertEquals(0, categoryGateway.deleteById(aCategory.getId()));
+
+    assertEquals(0, categoryRepository.count());
+  }
+
+  @Test
+  void givenAPrePersistedCategory_whenCallsDeleteById_shouldIssueASingleDelete() {
+    final var aCategory = Category.newCategory("Filmes", "a categoria", true);
+
+    categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
     categoryGateway.deleteById(aCategory.getId());
 
+    assertEquals(1, statistics.getPrepareStatementCount());
     assertEquals(0, categoryRepository.count());
   }
 
+  @Test
+  void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyGivenIds() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Series", null, true);
+    final var animes = Category.newCategory("Animes", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(animes)
+    ));
+
+    final var actualDeleted = categoryGateway.deleteAllById(List.of(
+        filmes.getId(),
+        animes.getId(),
+        CategoryId.from("invalid")
+    ));
+
+    assertEquals(2, actualDeleted);
+    assertEquals(1, categoryRepository.count());
+    assertTrue(categoryRepository.existsById(series.getId().getValue()));
+  }
+
   @Test
   void givenInvalidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
     assertEquals(0, categoryRepository.count());
 
-    categoryGateway.deleteById(CategoryId.from("invalid"));
+    assertEquals(0, categoryGateway.deleteById(CategoryId.from("invalid")));
 
     assertEquals(0, categoryRepository.count());
   }
@@ -330,4 +383,423 @@ public class CategoryMySQLGatewayTest {
     assertEquals(filmes.getId(), actualResult.items().get(0).getId());
   }
 
+  @Test
+  void givenFollowCursor_whenCallsFindAllAfterCursor_shouldReturnNextItems() {
+    final var expectedPerPage = 1;
+    final var expectedTotal = 3;
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var animes = Category.newCategory("Animes", null, true);
+    final var series = Category.newCategory("Series", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(series)
+    ));
+
+    assertEquals(3, categoryRepository.count());
+
+    //First page
+    var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+    var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(expectedPerPage, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertNotNull(actualResult.nextCursor());
+
+    //After animes
+    query = new CategorySearchQuery(0, 1, "", "name", "asc")
+        .withAfter(actualResult.nextCursor());
+    actualResult = categoryGateway.findAll(query);
+
+    assertEquals(expectedTotal, actualResult.total());
+    assertEquals(expectedPerPage, actualResult.items().size());
+    assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    assertNotNull(actualResult.nextCursor());
+
+    //After filmes
+    query = new CategorySearchQuery(0, 1, "", "name", "asc")
+        .withAfter(actualResult.nextCursor());
+    actualResult = categoryGateway.findAll(query);
+
+    assertEquals(expectedTotal, actualResult.total());
+    assertEquals(expectedPerPage, actualResult.items().size());
+    assertEquals(series.getId(), actualResult.items().get(0).getId());
+    assertNull(actualResult.nextCursor());
+  }
+
+  @Test
+  void givenTerms_whenCallsFindAllFollowingTheCursor_shouldReturnEveryMatchOnce() {
+    final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var animes = Category.newCategory("Animes", "Categoria de animes", true);
+    final var series = Category.newCategory("Series", "Categoria de series", true);
+    final var documentarios = Category.newCategory("Documentarios", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(documentarios)
+    ));
+
+    //First page
+    var query = new CategorySearchQuery(0, 2, "categoria", "name", "asc");
+    var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(3, actualResult.total());
+    assertEquals(2, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+    assertTrue(actualResult.hasNext());
+    assertNotNull(actualResult.nextCursor());
+
+    //After filmes
+    query = query.withAfter(actualResult.nextCursor());
+    actualResult = categoryGateway.findAll(query);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(series.getId(), actualResult.items().get(0).getId());
+    assertFalse(actualResult.hasNext());
+    assertNull(actualResult.nextCursor());
+  }
+
+  @Test
+  void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldFollowCursorWithoutLoadingEntities() {
+    final var filmes = Category.newCategory("Filmes", "A mais assistida", true);
+    final var animes = Category.newCategory("Animes", null, false);
+    final var series = Category.newCategory("Series", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(series)
+    ));
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    var query = new CategorySearchQuery(0, 2, "", "name", "asc");
+    var actualResult = categoryGateway.findAllSummaries(query);
+
+    assertEquals(3, actualResult.total());
+    assertEquals(2, actualResult.items().size());
+    assertEquals(CategorySummary.from(animes), actualResult.items().get(0));
+    assertEquals(CategorySummary.from(filmes), actualResult.items().get(1));
+    assertNotNull(actualResult.nextCursor());
+
+    query = query.withAfter(actualResult.nextCursor());
+    actualResult = categoryGateway.findAllSummaries(query);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(series.getId(), actualResult.items().get(0).id());
+    assertNull(actualResult.nextCursor());
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+
+  @Test
+  void givenAnUnindexedSort_whenCallsFindAll_shouldThrowDomainException() {
+    final var expectedErrorMessage =
+        "Categories cannot be sorted by 'description', expected one of name, createdAt, updatedAt";
+
+    final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(
+        new CategorySearchQuery(0, 10, "", "description", "asc")));
+
+    assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  @Test
+  void givenAColumnNameAsSort_whenCallsFindAll_shouldSortByTheMappedField() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var animes = Category.with(
+        CategoryId.unique(),
+        "Animes",
+        null,
+        true,
+        filmes.getCreatedAt(),
+        filmes.getUpdatedAt().plusSeconds(60),
+        null);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes)
+    ));
+
+    final var actualResult = categoryGateway.findAll(
+        new CategorySearchQuery(0, 10, "", "updated_at", "desc"));
+
+    assertEquals(2, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenAnActiveOnlyFilter_whenCallsFindAll_shouldSkipInactiveCategories() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var animes = Category.newCategory("Animes", null, false);
+    final var series = Category.newCategory("Series", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(series)
+    ));
+
+    final var actualResult = categoryGateway.findAll(
+        new CategorySearchQuery(0, 10, "", "name", "asc")
+            .withFilter(CategoryFilter.activeOnly()));
+
+    assertEquals(2, actualResult.total());
+    assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    assertEquals(series.getId(), actualResult.items().get(1).getId());
+  }
+
+  @Test
+  void givenACreatedAtRange_whenCallsFindAllSummaries_shouldReturnOnlyCategoriesInside() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var createdAt = filmes.getCreatedAt();
+    final var older = Category.with(
+        CategoryId.unique(), "Animes", null, false,
+        createdAt.minusSeconds(3600), createdAt.minusSeconds(3600), createdAt.minusSeconds(3600));
+    final var newer = Category.with(
+        CategoryId.unique(), "Series", null, true,
+        createdAt.plusSeconds(3600), createdAt.plusSeconds(3600), null);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(older),
+        CategoryJpaEntity.from(newer)
+    ));
+
+    final var aFilter = CategoryFilter.NONE
+        .withCreatedBetween(createdAt, createdAt.plusSeconds(3600));
+
+    final var actualResult = categoryGateway.findAllSummaries(
+        new CategorySearchQuery(0, 10, "", "createdAt", "desc").withFilter(aFilter));
+
+    assertEquals(1, actualResult.total());
+    assertEquals(filmes.getId(), actualResult.items().get(0).id());
+  }
+
+  @Test
+  void givenACursorIssuedForAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+    final var expectedErrorMessage = "Pagination cursor was issued for sort 'name'";
+
+    final var aCursor = Cursor.with("name", "Filmes", CategoryId.unique().getValue()).encode();
+    final var query = new CategorySearchQuery(0, 1, "", "createdAt", "asc")
+        .withAfter(aCursor);
+
+    final var actualException =
+        assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+    assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  @Test
+  void givenACursorWithATamperedKey_whenCallsFindAll_shouldThrowDomainException() {
+    final var aCursor = Cursor.with("createdAt", "yesterday", CategoryId.unique().getValue())
+        .encode();
+    final var expectedErrorMessage = "Invalid pagination cursor '%s'".formatted(aCursor);
+
+    final var query = new CategorySearchQuery(0, 1, "", "createdAt", "asc")
+        .withAfter(aCursor);
+
+    final var actualException =
+        assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+    assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  @Test
+  void givenPrePersistedCategoriesAndNoTotal_whenCallsFindAll_shouldReturnHasNextWithoutTotal() {
+    final var expectedPage = 0;
+    final var expectedPerPage = 2;
+    final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var animes = Category.newCategory("Animes", null, true);
+    final var series = Category.newCategory("Series", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(series)
+    ));
+
+    assertEquals(3, categoryRepository.count());
+
+    //Page 0
+    var query = new CategorySearchQuery(0, 2, "", "name", "asc").withoutTotal();
+    var actualResult = categoryGateway.findAll(query);
+
+    assertEquals(expectedPage, actualResult.currentPage());
+    assertEquals(expectedPerPage, actualResult.perPage());
+    assertEquals(expectedTotal, actualResult.total());
+    assertFalse(actualResult.hasTotal());
+    assertTrue(actualResult.hasNext());
+    assertEquals(expectedPerPage, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+
+    //Page 1
+    query = new CategorySearchQuery(1, 2, "", "name", "asc").withoutTotal();
+    actualResult = categoryGateway.findAll(query);
+
+    assertEquals(expectedTotal, actualResult.total());
+    assertFalse(actualResult.hasNext());
+    assertEquals(1, actualResult.items().size());
+    assertEquals(series.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Series", "Mais assistidas", false);
+
+    assertEquals(0, categoryRepository.count());
+
+    final var actualCategories = categoryGateway.createAll(List.of(filmes, series));
+
+    assertEquals(2, categoryRepository.count());
+    assertEquals(2, actualCategories.size());
+    assertEquals(filmes.getId(), actualCategories.get(0).getId());
+    assertEquals(series.getId(), actualCategories.get(1).getId());
+
+    final var actualEntity = categoryRepository.findById(series.getId().getValue()).get();
+
+    assertEquals("Series", actualEntity.getName());
+    assertEquals("Mais assistidas", actualEntity.getDescription());
+    assertFalse(actualEntity.isActive());
+    assertNotNull(actualEntity.getDeletedAt());
+  }
+
+  @Test
+  void givenPrePersistedCategories_whenCallsUpdateAll_shouldUpdateAllOfThem() {
+    final var filmes = Category.newCategory("film", null, true);
+    final var series = Category.newCategory("serie", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series)
+    ));
+
+    final var actualCategories = categoryGateway.updateAll(List.of(
+        filmes.clone().update("Filmes", "Categoria mais assistida", true),
+        series.clone().update("Series", null, false)
+    ));
+
+    assertEquals(2, categoryRepository.count());
+    assertEquals(2, actualCategories.size());
+    assertEquals("Filmes", categoryRepository.findById(filmes.getId().getValue()).get().getName());
+    assertEquals(
+        "Categoria mais assistida",
+        categoryRepository.findById(filmes.getId().getValue()).get().getDescription());
+    assertEquals("Series", categoryRepository.findById(series.getId().getValue()).get().getName());
+    assertFalse(categoryRepository.findById(series.getId().getValue()).get().isActive());
+  }
+
+  @Test
+  void givenAStaleVersionInTheBatch_whenCallsUpdateAll_shouldThrowTheConcurrentModificationError() {
+    final var filmes = Category.newCategory("film", null, true);
+    final var series = Category.newCategory("serie", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.forInsert(filmes),
+        CategoryJpaEntity.forInsert(series)
+    ));
+
+    categoryGateway.update(series.clone().update("Series", null, true));
+
+    final var actualException = assertThrows(DomainException.class,
+        () -> categoryGateway.updateAll(List.of(
+            filmes.clone().update("Filmes", null, true),
+            series.clone().update("Novelas", null, false))));
+
+    assertEquals(
+        "Category with ID %s was modified or removed concurrently"
+            .formatted(series.getId().getValue()),
+        actualException.getErrors().get(0).message());
+    assertEquals("Series", categoryRepository.findById(series.getId().getValue()).get().getName());
+  }
+
+  @Test
+  void givenNoCategories_whenCallsCreateAll_shouldReturnEmptyList() {
+    final var actualCategories = categoryGateway.createAll(List.of());
+
+    assertTrue(actualCategories.isEmpty());
+    assertEquals(0, categoryRepository.count());
+  }
+
+  @Test
+  void givenAValidCategory_whenCallsCreate_shouldIssueASingleInsert() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    categoryGateway.create(aCategory);
+    categoryRepository.flush();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(1, statistics.getEntityInsertCount());
+  }
+
+  @Test
+  void givenAPrePersistedCategory_whenCallsUpdate_shouldIssueASingleConditionalUpdate() {
+    final var aCategory = Category.newCategory("film", null, true);
+    categoryRepository.saveAndFlush(CategoryJpaEntity.forInsert(aCategory));
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    final var actualCategory = categoryGateway.update(
+        aCategory.clone().update("Filmes", null, true));
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(aCategory.getVersion() + 1, actualCategory.getVersion());
+    assertEquals(1, categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+  }
+
+  @Test
+  void givenAStaleVersion_whenCallsUpdate_shouldThrowAndKeepTheStoredCategory() {
+    final var aCategory = Category.newCategory("film", null, true);
+    categoryRepository.saveAndFlush(CategoryJpaEntity.forInsert(aCategory));
+
+    categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+    final var actualException = assertThrows(DomainException.class,
+        () -> categoryGateway.update(aCategory.clone().update("Series", null, false)));
+
+    assertEquals(
+        "Category with ID %s was modified or removed concurrently"
+            .formatted(aCategory.getId().getValue()),
+        actualException.getErrors().get(0).message());
+
+    final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+    assertEquals("Filmes", actualEntity.getName());
+    assertTrue(actualEntity.isActive());
+  }
+
+  @Test
+  void givenPrePersistedCategories_whenCallsStreamAll_shouldVisitEveryMatchInOrder() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Series", null, true);
+    final var animes = Category.newCategory("Animes", "Series japonesas", true);
+    final var documentarios = Category.newCategory("Documentarios", null, true);
+
+    categoryRepository.saveAllAndFlush(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(animes),
+        CategoryJpaEntity.from(documentarios)
+    ));
+
+    final var actualIds = new ArrayList<CategoryId>();
+    categoryGateway.streamAll(
+        new CategorySearchQuery(0, 0, "series", "name", "asc"),
+        aCategory -> actualIds.add(aCategory.getId()));
+
+    assertEquals(List.of(animes.getId(), series.getId()), actualIds);
+  }
+
 }
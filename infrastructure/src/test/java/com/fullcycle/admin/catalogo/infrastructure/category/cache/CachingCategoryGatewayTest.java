@@ -0,0 +1,136 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryGatewayTest {
+
+  @Mock
+  private CategoryGateway delegate;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private CachingCategoryGateway gateway;
+
+  @BeforeEach
+  void setUp() {
+    final var cache = CachingCategoryGateway.newCache(100, Duration.ofMinutes(1), nanos::get);
+    this.gateway = new CachingCategoryGateway(delegate, cache);
+  }
+
+  @Test
+  void givenACachedCategory_whenCallsFindById_shouldNotHitDelegateAgain() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var expectedId = aCategory.getId();
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+    final var firstResult = gateway.findById(expectedId).get();
+    final var secondResult = gateway.findById(expectedId).get();
+
+    assertEquals(expectedId, secondResult.getId());
+    assertEquals(aCategory.getName(), secondResult.getName());
+    assertNotSame(firstResult, secondResult);
+    assertNotSame(aCategory, secondResult);
+
+    assertEquals(1, gateway.stats().missCount());
+    assertEquals(1, gateway.stats().hitCount());
+    verify(delegate, times(1)).findById(eq(expectedId));
+  }
+
+  @Test
+  void givenACachedCategory_whenCallsFindLatestById_shouldReadFromDelegate() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var expectedId = aCategory.getId();
+    final var aNewerCategory = Category.with(aCategory, 1);
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+    when(delegate.findLatestById(eq(expectedId))).thenReturn(Optional.of(aNewerCategory));
+
+    gateway.findById(expectedId);
+
+    assertEquals(1, gateway.findLatestById(expectedId).get().getVersion());
+    verify(delegate, times(1)).findLatestById(eq(expectedId));
+  }
+
+  @Test
+  void givenACachedCategory_whenCallerMutatesIt_shouldKeepSnapshotIntact() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var expectedId = aCategory.getId();
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+    gateway.findById(expectedId).get().update("Series", null, false);
+
+    final var actualCategory = gateway.findById(expectedId).get();
+
+    assertEquals("Filmes", actualCategory.getName());
+    assertTrue(actualCategory.isActive());
+  }
+
+  @Test
+  void givenACachedCategory_whenCallsUpdateOrDelete_shouldInvalidateEntry() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var expectedId = aCategory.getId();
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+    when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+    gateway.findById(expectedId);
+    gateway.update(aCategory);
+    gateway.findById(expectedId);
+    gateway.deleteById(expectedId);
+    gateway.findById(expectedId);
+
+    assertEquals(3, gateway.stats().missCount());
+    verify(delegate, times(3)).findById(eq(expectedId));
+  }
+
+  @Test
+  void givenAnExpiredEntry_whenCallsFindById_shouldReloadAndCountEviction() {
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var expectedId = aCategory.getId();
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+    gateway.findById(expectedId);
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    gateway.findById(expectedId);
+
+    assertEquals(2, gateway.stats().missCount());
+    assertEquals(1, gateway.stats().evictionCount());
+    verify(delegate, times(2)).findById(eq(expectedId));
+  }
+
+  @Test
+  void givenAMissingCategory_whenCallsFindById_shouldNotCacheAbsence() {
+    final var expectedId = CategoryId.from("123");
+
+    when(delegate.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+    assertTrue(gateway.findById(expectedId).isEmpty());
+    assertTrue(gateway.findById(expectedId).isEmpty());
+
+    verify(delegate, times(2)).findById(eq(expectedId));
+  }
+}
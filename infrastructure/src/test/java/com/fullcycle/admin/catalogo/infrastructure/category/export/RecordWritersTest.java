@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.export.ExportFormat;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RecordWritersTest {
+
+  private static final Instant CREATED_AT = Instant.parse("2023-02-01T10:15:30.123Z");
+
+  private final RecordWriters writers = new RecordWriters(new ObjectMapper());
+
+  private final List<Category> categories = List.of(
+      Category.with(CategoryId.from("11111111-1111-1111-1111-111111111111"),
+          "Filmes", "A \"mais\" assistida, sempre", true, CREATED_AT, CREATED_AT, null),
+      Category.with(CategoryId.from("22222222-2222-2222-2222-222222222222"),
+          "Series", null, false, CREATED_AT, CREATED_AT, CREATED_AT)
+  );
+
+  @Test
+  void givenCategories_whenWritingNdjson_shouldWriteOneObjectPerLine() throws IOException {
+    final var expected = """
+        {"id":"11111111-1111-1111-1111-111111111111","name":"Filmes","description":"A \\"mais\\" assistida, sempre","is_active":true,"created_at":"2023-02-01T10:15:30.123Z","updated_at":"2023-02-01T10:15:30.123Z","deleted_at":null}
+        {"id":"22222222-2222-2222-2222-222222222222","name":"Series","description":null,"is_active":false,"created_at":"2023-02-01T10:15:30.123Z","updated_at":"2023-02-01T10:15:30.123Z","deleted_at":"2023-02-01T10:15:30.123Z"}
+        """;
+
+    assertEquals(expected, write(ExportFormat.NDJSON));
+  }
+
+  @Test
+  void givenCategories_whenWritingCsv_shouldWriteHeaderAndQuotedValues() throws IOException {
+    final var expected = """
+        id,name,description,is_active,created_at,updated_at,deleted_at
+        11111111-1111-1111-1111-111111111111,Filmes,"A ""mais"" assistida, sempre",true,2023-02-01T10:15:30.123Z,2023-02-01T10:15:30.123Z,
+        22222222-2222-2222-2222-222222222222,Series,,false,2023-02-01T10:15:30.123Z,2023-02-01T10:15:30.123Z,2023-02-01T10:15:30.123Z
+        """;
+
+    assertEquals(expected, write(ExportFormat.CSV));
+  }
+
+  private String write(final ExportFormat aFormat) throws IOException {
+    final var out = new ByteArrayOutputStream();
+    final var writer = writers.open(aFormat, out);
+    for (final var aCategory : categories) {
+      writer.write(aCategory);
+    }
+    writer.flush();
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportFormat;
+import com.fullcycle.admin.catalogo.application.category.importing.ParsedLine;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RecordReadersTest {
+
+  private final RecordReaders readers = new RecordReaders(new ObjectMapper());
+
+  @Test
+  void givenAnNdjsonFile_whenReadingIt_shouldParseValidLinesAndReportMalformedOnes()
+      throws IOException {
+    final var input = """
+        {"name":"Filmes","description":"A categoria mais assistida","is_active":true}
+        {"name":null}
+
+        {"name":"Series","is_active":false}
+        {"name":"Animes"
+        {"name":"Documentarios","description":"Com \\"aspas\\""}
+        {"name":1}
+        {"name":"Extra"} {}
+        """;
+
+    final var actualLines = read(ImportFormat.NDJSON, input);
+
+    assertEquals(7, actualLines.size());
+    assertEquals("Filmes", actualLines.get(0).command().name());
+    assertTrue(actualLines.get(0).command().isActive());
+    assertEquals(2, actualLines.get(1).line());
+    assertNull(actualLines.get(1).command().name());
+    assertEquals(4, actualLines.get(2).line());
+    assertFalse(actualLines.get(2).command().isActive());
+    assertEquals(5, actualLines.get(3).line());
+    assertTrue(message(actualLines.get(3)).startsWith("Malformed JSON"));
+    assertEquals("Com \"aspas\"", actualLines.get(4).command().description());
+    assertEquals("'name' should be a string", message(actualLines.get(5)));
+    assertTrue(message(actualLines.get(6)).startsWith("Malformed JSON"));
+  }
+
+  @Test
+  void givenACsvFile_whenReadingIt_shouldHandleQuotedFieldsAcrossLines() throws IOException {
+    final var input = "name,description,is_active\r\n"
+        + "Filmes,\"A categoria, \"\"mais\"\" assistida\",true\r\n"
+        + "Series,\"Primeira linha\nsegunda linha\",\r\n"
+        + "Animes,,talvez\r\n"
+        + "Pi,,false\r\n";
+
+    final var actualLines = read(ImportFormat.CSV, input);
+
+    assertEquals(4, actualLines.size());
+    assertEquals("A categoria, \"mais\" assistida", actualLines.get(0).command().description());
+    assertEquals("Primeira linha\nsegunda linha", actualLines.get(1).command().description());
+    assertTrue(actualLines.get(1).command().isActive());
+    assertEquals(5, actualLines.get(2).line());
+    assertEquals("'is_active' should be true or false", message(actualLines.get(2)));
+    assertEquals(6, actualLines.get(3).line());
+    assertNull(actualLines.get(3).command().description());
+    assertFalse(actualLines.get(3).command().isActive());
+  }
+
+  @Test
+  void givenACsvWithAnUnterminatedQuote_whenReadingIt_shouldReportTheRecord() throws IOException {
+    final var input = "name,description\n"
+        + "Filmes,A categoria mais assistida\n"
+        + "Series,\"sem fim\n"
+        + "Animes,Outra linha\n";
+
+    final var actualLines = read(ImportFormat.CSV, input);
+
+    assertEquals(2, actualLines.size());
+    assertEquals("Filmes", actualLines.get(0).command().name());
+    assertEquals(3, actualLines.get(1).line());
+    assertEquals("unterminated quoted field", message(actualLines.get(1)));
+  }
+
+  @Test
+  void givenOversizedRecords_whenReadingThem_shouldReportThemAndKeepReading() throws IOException {
+    final var aLongText = "a".repeat(RecordReaders.MAX_RECORD_LENGTH);
+
+    final var csv = "name,description\n"
+        + "Filmes,\"" + aLongText + "\"\n"
+        + "Series,A mais paia\n";
+
+    var actualLines = read(ImportFormat.CSV, csv);
+
+    assertEquals(2, actualLines.size());
+    assertEquals(2, actualLines.get(0).line());
+    assertEquals("field is longer than %d characters".formatted(CsvRecordReader.MAX_FIELD_LENGTH),
+        message(actualLines.get(0)));
+    assertEquals("Series", actualLines.get(1).command().name());
+
+    final var ndjson = "{\"name\":\"" + aLongText + "\"}\n"
+        + "{\"name\":\"Series\"}\n";
+
+    actualLines = read(ImportFormat.NDJSON, ndjson);
+
+    assertEquals(2, actualLines.size());
+    assertEquals(1, actualLines.get(0).line());
+    assertEquals("line is longer than %d characters".formatted(RecordReaders.MAX_RECORD_LENGTH),
+        message(actualLines.get(0)));
+    assertEquals("Series", actualLines.get(1).command().name());
+  }
+
+  @Test
+  void givenACsvWithoutNameColumn_whenReadingIt_shouldReportHeaderError() throws IOException {
+    final var actualLines = read(ImportFormat.CSV, "description\nqualquer\n");
+
+    assertEquals(1, actualLines.size());
+    assertEquals(1, actualLines.get(0).line());
+    assertEquals("'name' column is missing from the CSV header", message(actualLines.get(0)));
+  }
+
+  private List<ParsedLine> read(final ImportFormat aFormat, final String anInput)
+      throws IOException {
+    final var reader = readers.open(aFormat,
+        new ByteArrayInputStream(anInput.getBytes(StandardCharsets.UTF_8)));
+    final var lines = new ArrayList<ParsedLine>();
+    for (var aLine = reader.next(); aLine != null; aLine = reader.next()) {
+      lines.add(aLine);
+    }
+    return lines;
+  }
+
+  private static String message(final ParsedLine aLine) {
+    return aLine.notification().firstError().message();
+  }
+}
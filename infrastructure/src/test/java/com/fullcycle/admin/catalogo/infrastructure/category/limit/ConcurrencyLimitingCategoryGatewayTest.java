@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryId;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingCategoryGatewayTest {
+
+  @Mock
+  private CategoryGateway delegate;
+
+  @Test
+  void givenAllPermitsInUse_whenCallsFindById_shouldTimeOut() throws Exception {
+    final var entered = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+
+    when(delegate.findById(any())).thenAnswer(invocation -> {
+      entered.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(aCategory);
+    });
+
+    final var gateway =
+        new ConcurrencyLimitingCategoryGateway(delegate, 1, Duration.ofMillis(50));
+
+    final var first = CompletableFuture.supplyAsync(() -> gateway.findById(aCategory.getId()));
+    entered.await(5, TimeUnit.SECONDS);
+
+    assertEquals(0, gateway.availablePermits());
+    assertThrows(IllegalStateException.class, () -> gateway.findById(CategoryId.unique()));
+
+    release.countDown();
+    assertEquals(Optional.of(aCategory), first.get(5, TimeUnit.SECONDS));
+    assertEquals(1, gateway.availablePermits());
+  }
+
+  @Test
+  void givenADelegateError_whenCallsCreate_shouldReleaseThePermit() {
+    when(delegate.create(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+    final var gateway =
+        new ConcurrencyLimitingCategoryGateway(delegate, 2, Duration.ofMillis(50));
+
+    assertThrows(IllegalStateException.class,
+        () -> gateway.create(Category.newCategory("Filmes", null, true)));
+    assertEquals(2, gateway.availablePermits());
+  }
+
+  @Test
+  void givenAReplica_whenCallsReadsAndWrites_shouldTakePermitsFromThePoolServingThem() {
+    final var readsOnPrimary = new AtomicBoolean(false);
+    final var permitsInUse = new ArrayList<List<Integer>>();
+    final var gateway = new ConcurrencyLimitingCategoryGateway(
+        delegate, 1, 2, readsOnPrimary::get, Duration.ofMillis(50));
+
+    when(delegate.findAll(any())).thenAnswer(invocation -> {
+      permitsInUse.add(List.of(gateway.availablePermits(), gateway.availableReplicaPermits()));
+      return new Pagination<Category>(0, 10, 0, List.of());
+    });
+    when(delegate.create(any())).thenAnswer(invocation -> {
+      permitsInUse.add(List.of(gateway.availablePermits(), gateway.availableReplicaPermits()));
+      return invocation.getArgument(0);
+    });
+
+    final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+    gateway.findAll(aQuery);
+    gateway.create(Category.newCategory("Filmes", null, true));
+    readsOnPrimary.set(true);
+    gateway.findAll(aQuery);
+
+    assertEquals(List.of(List.of(1, 1), List.of(0, 2), List.of(0, 2)), permitsInUse);
+    assertEquals(1, gateway.availablePermits());
+    assertEquals(2, gateway.availableReplicaPermits());
+  }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MeteredCategoryGatewayTest {
+
+  @Mock
+  private CategoryGateway delegate;
+
+  @Test
+  void givenAPage_whenCallsFindAll_shouldTimeTheCallAndRecordTheRows() {
+    final var registry = new SimpleMeterRegistry();
+    final var gateway = new MeteredCategoryGateway(delegate, registry);
+    final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+    when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 10, 2, List.of(
+        Category.newCategory("Filmes", null, true),
+        Category.newCategory("Series", null, true))));
+
+    gateway.findAll(aQuery);
+
+    final var timer = registry.get("category.gateway")
+        .tags("method", "findAll", "outcome", "success")
+        .timer();
+    final var rows = registry.get("category.gateway.rows")
+        .tag("method", "findAll")
+        .summary();
+
+    assertEquals(1, timer.count());
+    assertEquals(1, rows.count());
+    assertEquals(2, rows.totalAmount());
+  }
+
+  @Test
+  void givenAFailingDelegate_whenCallsUpdate_shouldCountTheException() {
+    final var registry = new SimpleMeterRegistry();
+    final var gateway = new MeteredCategoryGateway(delegate, registry);
+
+    when(delegate.update(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+    assertThrows(IllegalStateException.class,
+        () -> gateway.update(Category.newCategory("Filmes", null, true)));
+
+    final var timer = registry.get("category.gateway")
+        .tags("method", "update", "outcome", "exception", "exception", "IllegalStateException")
+        .timer();
+
+    assertEquals(1, timer.count());
+  }
+}
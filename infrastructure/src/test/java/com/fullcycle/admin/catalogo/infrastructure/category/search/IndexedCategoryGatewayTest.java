@@ -0,0 +1,239 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class IndexedCategoryGatewayTest {
+
+  @Mock
+  private CategoryGateway delegate;
+
+  private CategorySearchIndex index;
+
+  private IndexedCategoryGateway gateway;
+
+  @BeforeEach
+  void setUp() {
+    this.index = new CategorySearchIndex();
+    this.gateway = new IndexedCategoryGateway(delegate, index);
+  }
+
+  @Test
+  void givenAColdIndex_whenCallsFindAllWithTerms_shouldFallbackToDelegate() {
+    final var aQuery = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+    final var expectedPagination = new Pagination<Category>(0, 10, 0, List.of());
+
+    when(delegate.findAll(eq(aQuery))).thenReturn(expectedPagination);
+
+    final var actualResult = gateway.findAll(aQuery);
+
+    assertFalse(index.isReady());
+    assertSame(expectedPagination, actualResult);
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllWithTerms_shouldReturnSortedHitsFromMemory() {
+    final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var animes = Category.newCategory("Animes", "Filmes animados", true);
+    final var series = Category.newCategory("Séries", "A mais paia", true);
+
+    loadIndex(filmes, animes, series);
+
+    final var aQuery = new CategorySearchQuery(0, 10, "film", "name", "asc");
+    final var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(2, actualResult.total());
+    assertEquals(2, actualResult.items().size());
+    assertFalse(actualResult.hasNext());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+
+    final var anExactQuery = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+    final var actualExactResult = gateway.findAll(anExactQuery);
+
+    assertEquals(2, actualExactResult.total());
+    assertEquals(animes.getId(), actualExactResult.items().get(0).getId());
+
+    final var anAccentQuery = new CategorySearchQuery(0, 10, "series", "name", "asc");
+    final var actualAccentResult = gateway.findAll(anAccentQuery);
+
+    assertEquals(1, actualAccentResult.total());
+    assertEquals(series.getId(), actualAccentResult.items().get(0).getId());
+
+    verify(delegate, never()).findAll(eq(aQuery));
+    verify(delegate, never()).findAll(eq(anExactQuery));
+    verify(delegate, never()).findAll(eq(anAccentQuery));
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllWithManyTerms_shouldRequireAllTerms() {
+    final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var animes = Category.newCategory("Animes", "A categoria mais top", true);
+
+    loadIndex(filmes, animes);
+
+    final var aQuery = new CategorySearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc");
+    final var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(1, actualResult.total());
+    assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenALoadedIndex_whenCategoryIsUpdatedOrDeleted_shouldKeepIndexCurrent() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+
+    loadIndex(filmes);
+
+    when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+    gateway.update(filmes.clone().update("Documentarios", null, true));
+
+    assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "filmes", "name", "asc")).total());
+    assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "docu", "name", "asc")).total());
+
+    gateway.deleteById(filmes.getId());
+
+    assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "docu", "name", "asc")).total());
+    assertEquals(0, index.size());
+    verify(delegate, times(1)).deleteById(eq(filmes.getId()));
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllFollowingTheCursor_shouldReturnEveryHitOnce() {
+    final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var animes = Category.newCategory("Animes", "Categoria de animes", true);
+    final var series = Category.newCategory("Series", "Categoria de series", true);
+
+    loadIndex(filmes, animes, series);
+
+    var aQuery = new CategorySearchQuery(0, 2, "categ", "name", "asc");
+    var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(3, actualResult.total());
+    assertEquals(2, actualResult.items().size());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+    assertTrue(actualResult.hasNext());
+    assertNotNull(actualResult.nextCursor());
+
+    aQuery = aQuery.withAfter(actualResult.nextCursor());
+    actualResult = gateway.findAll(aQuery);
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(series.getId(), actualResult.items().get(0).getId());
+    assertFalse(actualResult.hasNext());
+    assertNull(actualResult.nextCursor());
+    verify(delegate, never()).findAll(eq(aQuery));
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllSortedByAccentedNames_shouldFollowTheColumnCollation() {
+    final var zumbis = Category.newCategory("Zumbis", "Categoria de terror", true);
+    final var acao = Category.newCategory("Ação", "Categoria de aventura", true);
+    final var animes = Category.newCategory("animes", "Categoria de animes", true);
+
+    loadIndex(zumbis, acao, animes);
+
+    var aQuery = new CategorySearchQuery(0, 2, "categ", "name", "asc");
+    var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(acao.getId(), actualResult.items().get(0).getId());
+    assertEquals(animes.getId(), actualResult.items().get(1).getId());
+
+    actualResult = gateway.findAll(aQuery.withAfter(actualResult.nextCursor()));
+
+    assertEquals(1, actualResult.items().size());
+    assertEquals(zumbis.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllWithAMidWordTerm_shouldNotMatchLikeTheDatabase() {
+    loadIndex(Category.newCategory("Filmes", null, true));
+
+    final var aQuery = new CategorySearchQuery(0, 10, "lmes", "name", "asc");
+    final var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(0, actualResult.total());
+    verify(delegate, never()).findAll(eq(aQuery));
+  }
+
+  @Test
+  void givenALoadedIndex_whenCallsFindAllWithoutTerms_shouldDelegate() {
+    loadIndex(Category.newCategory("Filmes", null, true));
+
+    final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+    final var expectedPagination = new Pagination<Category>(0, 10, 0, List.of());
+
+    when(delegate.findAll(eq(aQuery))).thenReturn(expectedPagination);
+
+    assertSame(expectedPagination, gateway.findAll(aQuery));
+  }
+
+  @Test
+  void givenALoadedIndex_whenRebuilt_shouldPickUpWritesFromOtherInstances() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+
+    loadIndex(filmes);
+
+    final var animes = Category.newCategory("Animes", "Filmes animados", true);
+    loadIndex(filmes.clone().update("Documentarios", null, true), animes);
+
+    final var aQuery = new CategorySearchQuery(0, 10, "film", "name", "asc");
+    final var actualResult = gateway.findAll(aQuery);
+
+    assertEquals(1, actualResult.total());
+    assertEquals(animes.getId(), actualResult.items().get(0).getId());
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void givenARebuildReadingTheTable_whenCategoriesAreWritten_shouldKeepTheWrites() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var animes = Category.newCategory("Animes", null, true);
+
+    when(delegate.findAll(any())).thenAnswer(invocation -> {
+      index.remove(filmes.getId());
+      index.put(animes);
+      return new Pagination<>(0, 1, 1, List.of(filmes));
+    });
+
+    index.rebuild(delegate);
+
+    assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "film", "name", "asc")).total());
+    assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "anim", "name", "asc")).total());
+    assertEquals(1, index.size());
+  }
+
+  private void loadIndex(final Category... categories) {
+    when(delegate.findAll(any()))
+        .thenReturn(new Pagination<>(0, categories.length, categories.length, List.of(categories)));
+
+    index.rebuild(delegate);
+
+    assertTrue(index.isReady());
+  }
+}
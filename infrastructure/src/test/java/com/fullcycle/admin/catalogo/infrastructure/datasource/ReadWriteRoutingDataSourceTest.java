@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ReadWriteRoutingDataSourceTest {
+  private static final LongConsumer IGNORE_WRITES = until -> {
+  };
+
+  private DataSource primary;
+  private DataSource replica;
+
+  @BeforeEach
+  void setUp() {
+    primary = h2("routing_primary");
+    replica = h2("routing_replica");
+    seed(primary, "primary");
+    seed(replica, "replica");
+  }
+
+  @Test
+  void givenAReadOnlyTransaction_whenQuerying_shouldReadFromTheReplica() {
+    final var dataSource = routing(Duration.ZERO);
+
+    assertEquals("replica", whoAmI(dataSource, true));
+  }
+
+  @Test
+  void givenAReadWriteTransaction_whenQuerying_shouldUseThePrimary() {
+    final var dataSource = routing(Duration.ZERO);
+
+    assertEquals("primary", whoAmI(dataSource, false));
+  }
+
+  @Test
+  void givenARecentWrite_whenTheSameCallerReadsWithinTheWindow_shouldStayOnThePrimary() {
+    final var dataSource = routing(Duration.ofMinutes(1));
+    final var writes = new AtomicLong();
+
+    try (var ignored = ReadYourWrites.open(0L, writes::set)) {
+      assertEquals("replica", whoAmI(dataSource, true));
+      assertEquals("primary", whoAmI(dataSource, false));
+      assertEquals("primary", whoAmI(dataSource, true));
+    }
+
+    assertTrue(writes.get() > System.currentTimeMillis());
+  }
+
+  @Test
+  void givenARecentWriteByAnotherCaller_whenReading_shouldReadFromTheReplica() {
+    final var dataSource = routing(Duration.ofMinutes(1));
+
+    try (var ignored = ReadYourWrites.open(0L, IGNORE_WRITES)) {
+      assertEquals("primary", whoAmI(dataSource, false));
+    }
+
+    try (var ignored = ReadYourWrites.open(0L, IGNORE_WRITES)) {
+      assertEquals("replica", whoAmI(dataSource, true));
+    }
+    assertEquals("replica", whoAmI(dataSource, true));
+  }
+
+  @Test
+  void givenAWindowCarriedOverFromAPreviousRequest_whenReading_shouldUseThePrimary() {
+    final var dataSource = routing(Duration.ofMinutes(1));
+
+    try (var ignored = ReadYourWrites.open(System.currentTimeMillis() + 60_000, IGNORE_WRITES)) {
+      assertEquals("primary", whoAmI(dataSource, true));
+    }
+  }
+
+  @Test
+  void givenARecentWrite_whenTheWindowHasPassed_shouldReadFromTheReplicaAgain() throws Exception {
+    final var dataSource = routing(Duration.ofMillis(50));
+
+    try (var ignored = ReadYourWrites.open(0L, IGNORE_WRITES)) {
+      assertEquals("primary", whoAmI(dataSource, false));
+      Thread.sleep(100);
+      assertEquals("replica", whoAmI(dataSource, true));
+    }
+  }
+
+  @Test
+  void givenAForcedPrimaryRead_whenReadOnly_shouldUseThePrimary() {
+    final var dataSource = routing(Duration.ZERO);
+
+    assertEquals("primary", ReadYourWrites.onPrimary(() -> whoAmI(dataSource, true)));
+    assertEquals("replica", whoAmI(dataSource, true));
+  }
+
+  private DataSource routing(final Duration aWindow) {
+    return new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(primary, replica, aWindow));
+  }
+
+  private static String whoAmI(final DataSource aDataSource, final boolean readOnly) {
+    final var transaction = new TransactionTemplate(new DataSourceTransactionManager(aDataSource));
+    transaction.setReadOnly(readOnly);
+    return transaction.execute(status -> new JdbcTemplate(aDataSource)
+        .queryForObject("SELECT name FROM node", String.class));
+  }
+
+  private static DataSource h2(final String aName) {
+    return new DriverManagerDataSource("jdbc:h2:mem:" + aName + ";DB_CLOSE_DELAY=-1");
+  }
+
+  private static void seed(final DataSource aDataSource, final String aName) {
+    final var jdbc = new JdbcTemplate(aDataSource);
+    jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+    jdbc.update("DELETE FROM node");
+    jdbc.update("INSERT INTO node (name) VALUES (?)", aName);
+  }
+}
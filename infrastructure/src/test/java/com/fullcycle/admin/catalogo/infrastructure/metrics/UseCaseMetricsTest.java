@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class UseCaseMetricsTest {
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Test
+  void givenAnInvalidCommand_whenCallsInstrumentedUseCase_shouldRecordANotification() {
+    final var registry = new SimpleMeterRegistry();
+    final var useCase = UseCaseMetrics.instrument(
+        registry,
+        CreateCategoryUseCase.class,
+        "create-category",
+        new DefaultCreateCategoryUseCase(categoryGateway));
+
+    final var actualOutput = useCase.execute(CreateCategoryCommand.with(null, null, true));
+
+    assertTrue(actualOutput.isLeft());
+    assertEquals(1, registry.get(UseCaseMetrics.TIMER)
+        .tags("use-case", "create-category", "outcome", "notification")
+        .timer()
+        .count());
+  }
+
+  @Test
+  void givenAGatewayFailure_whenCallsInstrumentedUseCase_shouldRecordTheException() {
+    final var registry = new SimpleMeterRegistry();
+    final var useCase = UseCaseMetrics.instrument(
+        registry,
+        CreateCategoryUseCase.class,
+        "create-category",
+        new DefaultCreateCategoryUseCase(categoryGateway));
+
+    when(categoryGateway.create(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+    final var actualOutput = useCase.execute(CreateCategoryCommand.with("Filmes", null, true));
+
+    assertTrue(actualOutput.isLeft());
+    assertEquals(1, registry.get(UseCaseMetrics.TIMER)
+        .tags("use-case", "create-category", "outcome", "exception")
+        .tag("exception", IllegalStateException.class.getSimpleName())
+        .timer()
+        .count());
+  }
+
+  @Test
+  void givenAnAsyncUseCase_whenItFails_shouldRecordTheExceptionOnCompletion() {
+    final var registry = new SimpleMeterRegistry();
+    final var useCase = UseCaseMetrics.instrument(
+        registry,
+        AsyncGetCategoryByIdUseCase.class,
+        "async-get-category-by-id",
+        new DefaultAsyncGetCategoryByIdUseCase(
+            new DefaultGetCategoryByIdUseCase(categoryGateway), Runnable::run));
+
+    when(categoryGateway.findById(any())).thenReturn(Optional.empty());
+
+    assertThrows(CompletionException.class, () -> useCase.execute("123").join());
+    assertEquals(1, registry.get(UseCaseMetrics.TIMER)
+        .tags("use-case", "async-get-category-by-id", "outcome", "exception")
+        .tag("exception", DomainException.class.getSimpleName())
+        .timer()
+        .count());
+  }
+}